@@ -25,12 +25,15 @@ import com.viaversion.viafabricplus.ViaFabricPlus;
 import com.viaversion.viafabricplus.api.events.ChangeProtocolVersionCallback;
 import com.viaversion.viafabricplus.api.events.LoadingCycleCallback;
 import com.viaversion.viafabricplus.api.settings.SettingGroup;
+import com.viaversion.vialoader.util.VersionRange;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import io.netty.channel.Channel;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import net.minecraft.block.Block;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.network.ServerInfo;
 import net.minecraft.item.ItemStack;
@@ -46,7 +49,7 @@ public interface ViaFabricPlusBase {
      * @return an <b>internally based API version</b> incremented with meaningful or breaking changes.
      */
     default int apiVersion() {
-        return 2;
+        return 3;
     }
 
     /**
@@ -205,6 +208,26 @@ public interface ViaFabricPlusBase {
      */
     @Nullable ItemStack translateItem(final Item item, final ProtocolVersion sourceVersion);
 
+    /**
+     * Converts multiple Minecraft item stacks {@link ItemStack} to ViaVersion items {@link Item} at once, this is faster than
+     * calling {@link #translateItem(ItemStack, ProtocolVersion)} for every stack
+     *
+     * @param stacks        The Minecraft item stacks to convert {@link ItemStack}
+     * @param targetVersion The target version to convert to (e.g. v1.13) {@link ProtocolVersion}
+     * @return The ViaVersion items for the target version in the same order, empty stacks are converted to null {@link Item}
+     */
+    Item[] translateItemStacks(final List<ItemStack> stacks, final ProtocolVersion targetVersion);
+
+    /**
+     * Converts multiple ViaVersion items {@link Item} to Minecraft item stacks {@link ItemStack} at once, this is faster than
+     * calling {@link #translateItem(Item, ProtocolVersion)} for every item
+     *
+     * @param items         The ViaVersion items to convert {@link Item}
+     * @param sourceVersion The source version of the items (e.g. b1.8) {@link ProtocolVersion}
+     * @return The Minecraft item stacks for the source version in the same order {@link ItemStack}
+     */
+    List<ItemStack> translateViaItems(final List<Item> items, final ProtocolVersion sourceVersion);
+
     /**
      * @param item    The item to check
      * @param version The version to check for
@@ -224,5 +247,32 @@ public interface ViaFabricPlusBase {
      */
     int getStackCount(final ItemStack stack);
 
+    /**
+     * Overrides the hardness of a block in the given versions, used for mining speed calculations. Later registrations take priority.
+     *
+     * @param block    The block to override {@link Block}
+     * @param range    The versions in which the hardness applies (e.g. 1.14.4 and older) {@link VersionRange}
+     * @param hardness The hardness of the block in these versions
+     */
+    void registerLegacyBlockHardness(final Block block, final VersionRange range, final float hardness);
+
+    /**
+     * Requires the correct tool to get drops from a block in the given versions, used for mining speed calculations.
+     *
+     * @param block The block which requires a tool {@link Block}
+     * @param range The versions in which the requirement applies {@link VersionRange}
+     */
+    void registerLegacyToolRequirement(final Block block, final VersionRange range);
+
+    /**
+     * @return The amount of custom payloads received per channel (e.g. minecraft:brand) on the current connection, empty if not connected
+     */
+    Map<String, Long> getReceivedCustomPayloads();
+
+    /**
+     * @return The amount of custom payloads per channel which were dropped on the current connection because the target version
+     * doesn't have or can't read them, empty if not connected
+     */
+    Map<String, Long> getDroppedCustomPayloads();
 
 }
@@ -30,24 +30,28 @@ import com.viaversion.viafabricplus.base.Events;
 import com.viaversion.viafabricplus.base.overriding_jars.ClassLoaderPriorityUtil;
 import com.viaversion.viafabricplus.base.sync_tasks.SyncTasks;
 import com.viaversion.viafabricplus.features.FeaturesLoading;
+import com.viaversion.viafabricplus.features.block.mining_calculation.BlockHardnessDiff;
 import com.viaversion.viafabricplus.features.item.filter_creative_tabs.ItemRegistryDiff;
 import com.viaversion.viafabricplus.features.item.negative_item_count.NegativeItemUtil;
 import com.viaversion.viafabricplus.features.limitation.max_chat_length.MaxChatLength;
 import com.viaversion.viafabricplus.injection.access.base.IClientConnection;
 import com.viaversion.viafabricplus.injection.access.base.IServerInfo;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
+import com.viaversion.viafabricplus.protocoltranslator.protocol.storage.CustomPayloadMetrics;
 import com.viaversion.viafabricplus.protocoltranslator.translator.ItemTranslator;
 import com.viaversion.viafabricplus.save.SaveManager;
 import com.viaversion.viafabricplus.screen.impl.ProtocolSelectionScreen;
 import com.viaversion.viafabricplus.screen.impl.settings.SettingsScreen;
 import com.viaversion.viafabricplus.settings.SettingsManager;
 import com.viaversion.viafabricplus.util.ChatUtil;
+import com.viaversion.vialoader.util.VersionRange;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.item.Item;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import io.netty.channel.Channel;
 import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.metadata.ModMetadata;
+import net.minecraft.block.Block;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.network.ServerInfo;
 import net.minecraft.item.ItemStack;
@@ -60,6 +64,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public final class ViaFabricPlusImpl implements ViaFabricPlusBase {
@@ -230,6 +235,16 @@ public final class ViaFabricPlusImpl implements ViaFabricPlusBase {
         return ItemTranslator.viaToMc(item, sourceVersion);
     }
 
+    @Override
+    public Item[] translateItemStacks(List<ItemStack> stacks, ProtocolVersion targetVersion) {
+        return ItemTranslator.mcToVia(stacks, targetVersion);
+    }
+
+    @Override
+    public List<ItemStack> translateViaItems(List<Item> items, ProtocolVersion sourceVersion) {
+        return ItemTranslator.viaToMc(items, sourceVersion);
+    }
+
     @Override
     public boolean itemExists(net.minecraft.item.Item item, ProtocolVersion version) {
         return ItemRegistryDiff.contains(item, version);
@@ -245,6 +260,33 @@ public final class ViaFabricPlusImpl implements ViaFabricPlusBase {
         return NegativeItemUtil.getCount(stack);
     }
 
+    @Override
+    public void registerLegacyBlockHardness(Block block, VersionRange range, float hardness) {
+        BlockHardnessDiff.registerHardness(other -> other == block, range, hardness);
+    }
+
+    @Override
+    public void registerLegacyToolRequirement(Block block, VersionRange range) {
+        BlockHardnessDiff.registerToolRequirement(other -> other == block, range);
+    }
+
+    @Override
+    public Map<String, Long> getReceivedCustomPayloads() {
+        final CustomPayloadMetrics metrics = getCustomPayloadMetrics();
+        return metrics != null ? metrics.getReceived() : Map.of();
+    }
+
+    @Override
+    public Map<String, Long> getDroppedCustomPayloads() {
+        final CustomPayloadMetrics metrics = getCustomPayloadMetrics();
+        return metrics != null ? metrics.getDropped() : Map.of();
+    }
+
+    private @Nullable CustomPayloadMetrics getCustomPayloadMetrics() {
+        final UserConnection connection = ProtocolTranslator.getPlayNetworkUserConnection();
+        return connection != null ? connection.get(CustomPayloadMetrics.class) : null;
+    }
+
     public Logger logger() {
         return logger;
     }
@@ -23,18 +23,18 @@ package com.viaversion.viafabricplus.base.sync_tasks;
 
 import io.netty.buffer.Unpooled;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
-import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
 
-public record DataCustomPayload(PacketByteBuf buf) implements CustomPayload {
+public record DataCustomPayload(RegistryByteBuf buf) implements CustomPayload {
 
     public static final CustomPayload.Id<DataCustomPayload> ID = new CustomPayload.Id<>(Identifier.of(SyncTasks.PACKET_SYNC_IDENTIFIER));
 
     static {
-        PayloadTypeRegistry.playS2C().register(DataCustomPayload.ID, CustomPayload.codecOf((value, buf) -> {
+        PayloadTypeRegistry.playS2C().register(DataCustomPayload.ID, CustomPayload.<RegistryByteBuf, DataCustomPayload>codecOf((value, buf) -> {
             throw new UnsupportedOperationException("DataCustomPayload is a read-only packet");
-        }, buf -> new DataCustomPayload(new PacketByteBuf(Unpooled.copiedBuffer(buf.readSlice(buf.readableBytes()))))));
+        }, buf -> new DataCustomPayload(new RegistryByteBuf(Unpooled.copiedBuffer(buf.readSlice(buf.readableBytes())), buf.getRegistryManager()))));
     }
 
     public static void init() {
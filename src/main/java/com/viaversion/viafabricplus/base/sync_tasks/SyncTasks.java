@@ -22,20 +22,30 @@
 package com.viaversion.viafabricplus.base.sync_tasks;
 
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.network.PacketByteBuf;
 import net.minecraft.network.RegistryByteBuf;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 public final class SyncTasks {
 
     /**
-     * Contains all tasks that are waiting for a packet to be received, this system can be used to sync ViaVersion tasks with the correct thread
+     * Maximum amount of tasks which can wait for their packet at the same time, has to be a power of two
      */
-    private static final Map<String, Consumer<RegistryByteBuf>> PENDING_EXECUTION_TASKS = new ConcurrentHashMap<>();
+    private static final int MAX_PENDING_TASKS = 256;
+
+    /**
+     * Contains all tasks that are waiting for a packet to be received, this system can be used to sync ViaVersion tasks with the correct thread.
+     * Tasks are stored at their id modulo the size, a task which is still in its slot when the id wraps around is considered orphaned and dropped.
+     */
+    private static final AtomicReferenceArray<PendingTask> PENDING_EXECUTION_TASKS = new AtomicReferenceArray<>(MAX_PENDING_TASKS);
+
+    private static final AtomicInteger TASK_ID = new AtomicInteger();
+    private static final LongAdder PENDING_TASKS = new LongAdder();
+    private static final LongAdder EXPIRED_TASKS = new LongAdder();
 
     /**
      * This identifier is an internal identifier used to identify packets that are sent by ViaFabricPlus
@@ -54,12 +64,17 @@ public final class SyncTasks {
      * Executes a task synchronized with the main thread from networking threads
      *
      * @param task The task to execute
-     * @return The uuid of the task
+     * @return The id of the task, has to be written as VarInt after the {@link #PACKET_SYNC_IDENTIFIER}
      */
-    public static String executeSyncTask(final Consumer<RegistryByteBuf> task) {
-        final String uuid = UUID.randomUUID().toString();
-        PENDING_EXECUTION_TASKS.put(uuid, task);
-        return uuid;
+    public static int executeSyncTask(final Consumer<RegistryByteBuf> task) {
+        final int id = TASK_ID.getAndIncrement();
+        final PendingTask previous = PENDING_EXECUTION_TASKS.getAndSet(id & (MAX_PENDING_TASKS - 1), new PendingTask(id, task));
+        if (previous != null) {
+            EXPIRED_TASKS.increment();
+        } else {
+            PENDING_TASKS.increment();
+        }
+        return id;
     }
 
     /**
@@ -67,15 +82,32 @@ public final class SyncTasks {
      *
      * @param buf The packet buffer
      */
-    public static void handleSyncTask(final PacketByteBuf buf) {
-        final String uuid = buf.readString();
-
-        if (PENDING_EXECUTION_TASKS.containsKey(uuid)) {
-            MinecraftClient.getInstance().execute(() -> { // Execute the task on the main thread
-                final Consumer<RegistryByteBuf> task = PENDING_EXECUTION_TASKS.remove(uuid);
-                task.accept(new RegistryByteBuf(buf, MinecraftClient.getInstance().getNetworkHandler().getRegistryManager()));
-            });
+    public static void handleSyncTask(final RegistryByteBuf buf) {
+        final int id = buf.readVarInt();
+        final int slot = id & (MAX_PENDING_TASKS - 1);
+
+        final PendingTask pendingTask = PENDING_EXECUTION_TASKS.get(slot);
+        if (pendingTask != null && pendingTask.id == id && PENDING_EXECUTION_TASKS.compareAndSet(slot, pendingTask, null)) {
+            PENDING_TASKS.decrement();
+            MinecraftClient.getInstance().execute(() -> pendingTask.task.accept(buf)); // Execute the task on the main thread
         }
     }
 
+    /**
+     * @return The amount of tasks which are waiting for their packet
+     */
+    public static long getPendingTasks() {
+        return PENDING_TASKS.sum();
+    }
+
+    /**
+     * @return The amount of tasks which have been dropped because their packet never arrived
+     */
+    public static long getExpiredTasks() {
+        return EXPIRED_TASKS.sum();
+    }
+
+    private record PendingTask(int id, Consumer<RegistryByteBuf> task) {
+    }
+
 }
@@ -31,6 +31,7 @@ import com.viaversion.viafabricplus.features.emulation.recipe.Recipes1_11_2;
 import com.viaversion.viafabricplus.features.entity.EntityDimensionDiff;
 import com.viaversion.viafabricplus.features.entity.attribute.EnchantmentAttributesEmulation1_20_6;
 import com.viaversion.viafabricplus.features.footstep_particle.FootStepParticle1_12_2;
+import com.viaversion.viafabricplus.features.item.filter_creative_tabs.ItemRegistryDiff;
 import com.viaversion.viafabricplus.features.networking.resource_pack_header.ResourcePackHeaderDiff;
 import com.viaversion.viafabricplus.features.font.replace_blank_glyph.FontCacheReload;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
@@ -66,12 +67,17 @@ public final class FeaturesLoading {
             // Reloads all bounding boxes of the blocks that we changed
             CollisionShapes.reloadBlockShapes();
 
+            // Recompiles the items available in the creative tabs
+            ItemRegistryDiff.invalidate();
+
             // Clears the font cache to replace the empty glyph
             FontCacheReload.reload();
 
-            // Reloads the clientside recipes
+            // Builds the clientside recipes in the background, or releases the previously used ones
             if (newVersion.olderThanOrEqualTo(ProtocolVersion.v1_11_1)) {
-                Recipes1_11_2.reset();
+                Recipes1_11_2.prewarm(newVersion);
+            } else {
+                Recipes1_11_2.clearFallback();
             }
 
             // Reload sound system when switching between 3D Shareware and normal versions
@@ -0,0 +1,118 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.features;
+
+import com.viaversion.viafabricplus.api.settings.type.VersionedBooleanSetting;
+import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
+import com.viaversion.viafabricplus.settings.impl.DebugSettings;
+import com.viaversion.vialoader.util.VersionRange;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Version dependent behaviour which is checked in hot paths (e.g. per entity and tick). Every feature is declared with the
+ * versions it applies to and compiled into a bit set when the target version changes, so checking a feature is a single
+ * bit test instead of comparing protocol versions. Features backed by a {@link VersionedBooleanSetting} respect the
+ * auto/enabled/disabled value of the setting and are recompiled when it changes.
+ */
+public final class VersionFeatures {
+
+    private static final List<Predicate<ProtocolVersion>> FEATURES = new ArrayList<>();
+
+    // Entity movement and collisions
+    public static final int NO_ENTITY_CRAMMING = register(VersionRange.andOlder(ProtocolVersion.v1_8));
+    public static final int LEGACY_TARGETING_MARGIN = register(VersionRange.andOlder(ProtocolVersion.v1_8));
+    public static final int NO_SWIMMING = register(VersionRange.andOlder(ProtocolVersion.v1_12_2));
+    public static final int LEGACY_FLUID_MOVEMENT = register(VersionRange.andOlder(ProtocolVersion.v1_12_2));
+    public static final int LEGACY_COLLISION_AXIS_ORDER = register(VersionRange.andOlder(ProtocolVersion.v1_13_2));
+    public static final int LEGACY_POS_WITH_Y_OFFSET = register(VersionRange.andOlder(ProtocolVersion.v1_19_4));
+    public static final int LEGACY_SUBMERGED_EYE_OFFSET = register(VersionRange.andOlder(ProtocolVersion.v1_20_3));
+    public static final int LEGACY_STEP_COLLISION = register(VersionRange.andOlder(ProtocolVersion.v1_20_5));
+    public static final int ALLOW_SMALL_MOVEMENT = register(VersionRange.andOlder(ProtocolVersion.v1_21));
+
+    // Text rendering
+    public static final int LEGACY_BLANK_GLYPH = register(VersionRange.andOlder(ProtocolVersion.v1_12_2));
+    public static final int LEGACY_BLANK_GLYPH_PAIR = register(VersionRange.andOlder(ProtocolVersion.v1_21_2));
+
+    // Debug settings
+    public static final int DONT_CREATE_PACKET_ERROR_CRASH_REPORTS = register(DebugSettings.INSTANCE.dontCreatePacketErrorCrashReports);
+    public static final int DISABLE_SEQUENCING = register(DebugSettings.INSTANCE.disableSequencing);
+    public static final int ALWAYS_TICK_CLIENT_PLAYER = register(DebugSettings.INSTANCE.alwaysTickClientPlayer);
+    public static final int EXECUTE_INPUTS_SYNCHRONOUSLY = register(DebugSettings.INSTANCE.executeInputsSynchronously);
+    public static final int LEGACY_TAB_COMPLETIONS = register(DebugSettings.INSTANCE.legacyTabCompletions);
+    public static final int EMULATE_ARMOR_HUD = register(DebugSettings.INSTANCE.emulateArmorHud);
+    public static final int HIDE_MODERN_COMMAND_BLOCK_SCREEN_FEATURES = register(DebugSettings.INSTANCE.hideModernCommandBlockScreenFeatures);
+    public static final int FILTER_NON_EXISTING_GLYPHS = register(version -> DebugSettings.INSTANCE.filterNonExistingGlyphs.getValue());
+
+    private static volatile long[] enabled;
+
+    static {
+        compile(ProtocolTranslator.getTargetVersion());
+    }
+
+    private static int register(final VersionRange range) {
+        return register(range::contains);
+    }
+
+    private static int register(final VersionedBooleanSetting setting) {
+        return register(setting::isEnabled);
+    }
+
+    private static int register(final Predicate<ProtocolVersion> predicate) {
+        FEATURES.add(predicate);
+        return FEATURES.size() - 1;
+    }
+
+    /**
+     * Compiles all features for the given version, called by {@link ProtocolTranslator#setTargetVersion(ProtocolVersion, boolean)}
+     *
+     * @param version The target version
+     */
+    public static void compile(final ProtocolVersion version) {
+        final long[] bits = new long[(FEATURES.size() + 63) >>> 6];
+        for (int i = 0; i < FEATURES.size(); i++) {
+            if (FEATURES.get(i).test(version)) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        enabled = bits;
+    }
+
+    /**
+     * Recompiles all features for the current target version, used when a setting backing a feature changes
+     */
+    public static void recompile() {
+        compile(ProtocolTranslator.getTargetVersion());
+    }
+
+    /**
+     * @param feature One of the feature constants in this class
+     * @return Whether the feature applies to the current target version
+     */
+    public static boolean isEnabled(final int feature) {
+        return (enabled[feature >>> 6] & (1L << feature)) != 0;
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.features.block.mining_calculation;
+
+import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
+import com.viaversion.vialoader.util.VersionRange;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.InfestedBlock;
+import net.minecraft.block.ShulkerBoxBlock;
+import net.minecraft.registry.Registries;
+import net.raphimc.vialegacy.api.LegacyProtocolVersion;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Block hardness values and tool requirements which differ in older versions. The overrides are compiled into tables indexed
+ * by the raw block state id for the current target version, since they are queried every tick while mining.
+ */
+public final class BlockHardnessDiff {
+
+    private static final List<HardnessOverride> HARDNESS_OVERRIDES = new CopyOnWriteArrayList<>();
+    private static final List<ToolRequirement> TOOL_REQUIREMENTS = new CopyOnWriteArrayList<>();
+
+    private static volatile CompiledOverrides compiled;
+
+    static {
+        registerHardness(block -> block == Blocks.END_STONE_BRICKS || block == Blocks.END_STONE_BRICK_SLAB || block == Blocks.END_STONE_BRICK_STAIRS || block == Blocks.END_STONE_BRICK_WALL, VersionRange.andOlder(ProtocolVersion.v1_14_4), 0.8F);
+        registerHardness(block -> block == Blocks.PISTON || block == Blocks.STICKY_PISTON || block == Blocks.PISTON_HEAD, VersionRange.andOlder(ProtocolVersion.v1_15_2), 0.5F);
+        registerHardness(block -> block instanceof InfestedBlock, VersionRange.andOlder(ProtocolVersion.v1_16_4), 0F);
+        registerHardness(block -> block instanceof InfestedBlock, VersionRange.andOlder(ProtocolVersion.v1_12_2), 0.75F);
+        registerHardness(block -> block == Blocks.OBSIDIAN, VersionRange.andOlder(LegacyProtocolVersion.b1_8tob1_8_1), 10.0F);
+
+        registerToolRequirement(block -> block instanceof ShulkerBoxBlock, VersionRange.andOlder(ProtocolVersion.v1_13_2));
+    }
+
+    /**
+     * Overrides the hardness of all matching blocks in the given versions, overrides registered later take priority.
+     *
+     * @param blocks   The blocks to override
+     * @param range    The versions in which the hardness applies
+     * @param hardness The hardness
+     */
+    public static void registerHardness(final Predicate<Block> blocks, final VersionRange range, final float hardness) {
+        HARDNESS_OVERRIDES.add(new HardnessOverride(blocks, range, hardness));
+        compiled = null;
+    }
+
+    /**
+     * Requires the correct tool to get drops from all matching blocks in the given versions.
+     *
+     * @param blocks The blocks which require a tool
+     * @param range  The versions in which the requirement applies
+     */
+    public static void registerToolRequirement(final Predicate<Block> blocks, final VersionRange range) {
+        TOOL_REQUIREMENTS.add(new ToolRequirement(blocks, range));
+        compiled = null;
+    }
+
+    /**
+     * @param state The block state
+     * @return The hardness of the block state in the current target version or {@link Float#NaN} if it isn't changed
+     */
+    public static float getHardness(final BlockState state) {
+        final float[] hardness = getCompiled().hardness;
+        final int id = Block.STATE_IDS.getRawId(state);
+        return id >= 0 && id < hardness.length ? hardness[id] : Float.NaN;
+    }
+
+    /**
+     * @param state The block state
+     * @return true if the block state requires a tool in the current target version even if it doesn't in the native version
+     */
+    public static boolean isToolRequired(final BlockState state) {
+        final int id = Block.STATE_IDS.getRawId(state);
+        return id >= 0 && getCompiled().toolRequired.get(id);
+    }
+
+    private static CompiledOverrides getCompiled() {
+        final ProtocolVersion targetVersion = ProtocolTranslator.getTargetVersion();
+        CompiledOverrides overrides = compiled;
+        if (overrides == null || overrides.version != targetVersion) {
+            compiled = overrides = compile(targetVersion);
+        }
+        return overrides;
+    }
+
+    private static CompiledOverrides compile(final ProtocolVersion version) {
+        final float[] hardness = new float[Block.STATE_IDS.size()];
+        Arrays.fill(hardness, Float.NaN);
+        final BitSet toolRequired = new BitSet(hardness.length);
+
+        final List<HardnessOverride> hardnessOverrides = HARDNESS_OVERRIDES.stream().filter(override -> override.range.contains(version)).toList();
+        final List<ToolRequirement> toolRequirements = TOOL_REQUIREMENTS.stream().filter(requirement -> requirement.range.contains(version)).toList();
+        if (hardnessOverrides.isEmpty() && toolRequirements.isEmpty()) {
+            return new CompiledOverrides(version, hardness, toolRequired);
+        }
+
+        for (Block block : Registries.BLOCK) {
+            float blockHardness = Float.NaN;
+            for (HardnessOverride override : hardnessOverrides) {
+                if (override.blocks.test(block)) {
+                    blockHardness = override.hardness;
+                }
+            }
+            final boolean blockToolRequired = toolRequirements.stream().anyMatch(requirement -> requirement.blocks.test(block));
+            if (Float.isNaN(blockHardness) && !blockToolRequired) {
+                continue;
+            }
+
+            for (BlockState state : block.getStateManager().getStates()) {
+                final int id = Block.STATE_IDS.getRawId(state);
+                if (id < 0 || id >= hardness.length) {
+                    continue;
+                }
+                hardness[id] = blockHardness;
+                if (blockToolRequired) {
+                    toolRequired.set(id);
+                }
+            }
+        }
+        return new CompiledOverrides(version, hardness, toolRequired);
+    }
+
+    private record HardnessOverride(Predicate<Block> blocks, VersionRange range, float hardness) {
+    }
+
+    private record ToolRequirement(Predicate<Block> blocks, VersionRange range) {
+    }
+
+    private record CompiledOverrides(ProtocolVersion version, float[] hardness, BitSet toolRequired) {
+    }
+
+}
@@ -21,12 +21,49 @@
 
 package com.viaversion.viafabricplus.features.block.shape;
 
+import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.block.*;
 import net.minecraft.registry.Registries;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class CollisionShapes {
 
+    /**
+     * All block states whose shapes are changed by ViaFabricPlus, collected once on the first version change
+     */
+    private static BlockState[] affectedStates;
+
+    /**
+     * The version the shapes of the affected states were last built for, null until they were built by us once
+     */
+    private static ProtocolVersion builtVersion;
+
+    /**
+     * Rebuilds the shapes of all affected block states for the current target version. Version change events are handled
+     * later on the client thread, so the target version at that point is used instead of the event versions. The whole
+     * shape cache is rebuilt, since the culling shapes, culling faces and solidity of the states are derived from the
+     * shapes changed by us as well.
+     */
     public static void reloadBlockShapes() {
+        final ProtocolVersion targetVersion = ProtocolTranslator.getTargetVersion();
+        if (targetVersion.equals(builtVersion)) {
+            return;
+        }
+        for (BlockState state : getAffectedStates()) {
+            state.initShapeCache();
+        }
+        builtVersion = targetVersion;
+    }
+
+    private static BlockState[] getAffectedStates() {
+        if (affectedStates != null) {
+            return affectedStates;
+        }
+
+        final List<BlockState> states = new ArrayList<>();
         for (Block block : Registries.BLOCK) {
             if (block instanceof AnvilBlock || block instanceof BedBlock || block instanceof BrewingStandBlock
                     || block instanceof CarpetBlock || block instanceof CauldronBlock || block instanceof ChestBlock
@@ -37,11 +74,10 @@ public final class CollisionShapes {
                     || block instanceof PistonHeadBlock || block instanceof SnowBlock || block instanceof WallBlock
                     || block instanceof CropBlock || block instanceof FlowerbedBlock
             ) {
-                for (BlockState state : block.getStateManager().getStates()) {
-                    state.initShapeCache();
-                }
+                states.addAll(block.getStateManager().getStates());
             }
         }
+        return affectedStates = states.toArray(BlockState[]::new);
     }
 
 }
@@ -25,7 +25,6 @@ import com.viaversion.nbt.tag.CompoundTag;
 import com.viaversion.viaversion.api.Via;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.chunks.Chunk;
-import com.viaversion.viaversion.api.minecraft.chunks.ChunkSection;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandler;
 import com.viaversion.viaversion.api.protocol.remapper.PacketHandlers;
 import com.viaversion.viaversion.api.type.Types;
@@ -36,11 +35,14 @@ import net.raphimc.vialegacy.protocol.classic.c0_28_30toa1_0_15.provider.Classic
 import net.raphimc.vialegacy.protocol.classic.c0_28_30toa1_0_15.storage.ClassicLevelStorage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.List;
 
 public final class WorldHeightSupport {
 
+    private static final ChunkType1_17 CHUNK_TYPE = new ChunkType1_17(16);
+
     public static PacketHandler handleJoinGame(final PacketHandler parentHandler) {
         return wrapper -> {
             parentHandler.handle(wrapper);
@@ -78,31 +80,38 @@ public final class WorldHeightSupport {
             }
 
             if (wrapper.user().getProtocolInfo().serverProtocolVersion().olderThanOrEqualTo(LegacyProtocolVersion.c0_28toc0_30)) {
+                // The chunk is still the object written by the parent handler, reading it back doesn't decode anything
                 wrapper.resetReader();
-                final Chunk chunk = wrapper.read(new ChunkType1_17(16));
-                wrapper.write(new ChunkType1_17(chunk.getSections().length), chunk);
-
-                final ClassicWorldHeightProvider heightProvider = Via.getManager().getProviders().get(ClassicWorldHeightProvider.class);
-                if (chunk.getSections().length < heightProvider.getMaxChunkSectionCount(wrapper.user())) { // Increase available sections to match new world height
-                    final ChunkSection[] newArray = new ChunkSection[heightProvider.getMaxChunkSectionCount(wrapper.user())];
-                    System.arraycopy(chunk.getSections(), 0, newArray, 0, chunk.getSections().length);
-                    chunk.setSections(newArray);
+                final Chunk chunk = wrapper.read(CHUNK_TYPE);
+
+                final int sectionCount = Via.getManager().getProviders().get(ClassicWorldHeightProvider.class).getMaxChunkSectionCount(wrapper.user());
+                final int oldSectionCount = chunk.getSections().length;
+                if (oldSectionCount < sectionCount) { // Increase available sections to match new world height
+                    chunk.setSections(Arrays.copyOf(chunk.getSections(), sectionCount));
+
+                    // Copy top layer of old biome data all the way to max world height
+                    final int[] biomeData = chunk.getBiomeData();
+                    final int[] newBiomeData = Arrays.copyOf(biomeData, sectionCount * 4 * 4 * 4);
+                    for (int i = oldSectionCount * 4 * 16; i < newBiomeData.length; i += 16) {
+                        System.arraycopy(biomeData, biomeData.length - 16, newBiomeData, i, 16);
+                    }
+                    chunk.setBiomeData(newBiomeData);
                 }
 
-                final BitSet chunkMask = new BitSet();
-                for (int i = 0; i < chunk.getSections().length; i++) {
-                    if (chunk.getSections()[i] != null) chunkMask.set(i);
+                // Added sections are empty, so only the sections already sent can be present
+                BitSet chunkMask = chunk.getChunkMask();
+                if (chunkMask == null) {
+                    chunkMask = new BitSet(chunk.getSections().length);
+                    chunk.setChunkMask(chunkMask);
+                } else {
+                    chunkMask.clear();
                 }
-                chunk.setChunkMask(chunkMask);
-
-                final int[] newBiomeData = new int[chunk.getSections().length * 4 * 4 * 4];
-                System.arraycopy(chunk.getBiomeData(), 0, newBiomeData, 0, chunk.getBiomeData().length);
-                for (int i = 64; i < chunk.getSections().length * 4; i++) { // copy top layer of old biome data all the way to max world height
-                    System.arraycopy(chunk.getBiomeData(), chunk.getBiomeData().length - 16, newBiomeData, i * 16, 16);
+                for (int i = 0; i < oldSectionCount; i++) {
+                    if (chunk.getSections()[i] != null) chunkMask.set(i);
                 }
-                chunk.setBiomeData(newBiomeData);
 
                 chunk.setHeightMap(new CompoundTag()); // rip heightmap :(
+                wrapper.write(new ChunkType1_17(chunk.getSections().length), chunk);
             }
         };
     }
@@ -129,7 +138,7 @@ public final class WorldHeightSupport {
                         sectionYCount = heightProvider.getMaxChunkSectionCount(wrapper.user());
                     }
 
-                    final List<byte[]> lightArrays = new ArrayList<>();
+                    final List<byte[]> lightArrays = new ArrayList<>(16 + sectionYCount + 2);
                     while (wrapper.isReadable(Types.BYTE_ARRAY_PRIMITIVE, 0)) {
                         lightArrays.add(wrapper.read(Types.BYTE_ARRAY_PRIMITIVE));
                     }
@@ -156,11 +165,11 @@ public final class WorldHeightSupport {
 
                     wrapper.write(Types.VAR_INT, skyLightCount);
                     for (int i = 0; i < skyLightCount; i++) {
-                        wrapper.write(Types.BYTE_ARRAY_PRIMITIVE, lightArrays.remove(0));
+                        wrapper.write(Types.BYTE_ARRAY_PRIMITIVE, lightArrays.get(i));
                     }
                     wrapper.write(Types.VAR_INT, blockLightCount);
                     for (int i = 0; i < blockLightCount; i++) {
-                        wrapper.write(Types.BYTE_ARRAY_PRIMITIVE, lightArrays.remove(0));
+                        wrapper.write(Types.BYTE_ARRAY_PRIMITIVE, lightArrays.get(skyLightCount + i));
                     }
                 });
             }
@@ -22,30 +22,50 @@
 package com.viaversion.viafabricplus.features.emulation.armor_hud;
 
 import com.viaversion.viafabricplus.ViaFabricPlusImpl;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.packet.PacketWrapper;
 import com.viaversion.viaversion.api.type.Types;
 import com.viaversion.viaversion.protocols.v1_8to1_9.Protocol1_8To1_9;
 import com.viaversion.viaversion.protocols.v1_8to1_9.data.ArmorTypes1_8;
 import com.viaversion.viaversion.protocols.v1_8to1_9.packet.ClientboundPackets1_9;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 public final class ArmorHudEmulation1_8 {
 
     private static final UUID ARMOR_POINTS_UUID = UUID.fromString("2AD3F246-FEE1-4E67-B886-69FD380BB150");
 
+    /**
+     * Armor points of all 1.8 armor items, resolved once instead of looking up the armor type by item id every tick.
+     */
+    private static final Reference2IntMap<Item> ARMOR_POINTS = new Reference2IntOpenHashMap<>();
+
+    /**
+     * The armor items of the last update, the armor points are only recalculated if one of them changed.
+     */
+    private static final Item[] previousArmorItems = new Item[4];
+
     private static double previousArmorPoints = 0;
 
     static {
+        for (ArmorTypes1_8 armorType : ArmorTypes1_8.values()) {
+            Registries.ITEM.getOptionalValue(Identifier.of(armorType.getType())).ifPresent(item -> ARMOR_POINTS.put(item, armorType.getArmorPoints()));
+        }
+
         ClientTickEvents.START_WORLD_TICK.register(world -> {
-            if (!DebugSettings.INSTANCE.emulateArmorHud.isEnabled()) {
+            if (!VersionFeatures.isEnabled(VersionFeatures.EMULATE_ARMOR_HUD)) {
                 return;
             }
 
@@ -60,6 +80,7 @@ public final class ArmorHudEmulation1_8 {
                 }
             } else {
                 previousArmorPoints = 0;
+                Arrays.fill(previousArmorItems, null);
             }
         });
     }
@@ -69,10 +90,26 @@ public final class ArmorHudEmulation1_8 {
     }
 
     private static void sendArmorUpdate(final UserConnection connection) {
+        // Check if the worn armor changed since the last update.
+        final List<ItemStack> armorStacks = MinecraftClient.getInstance().player.getInventory().armor;
+        boolean changed = false;
+        for (int i = 0; i < previousArmorItems.length && i < armorStacks.size(); i++) {
+            final Item item = armorStacks.get(i).getItem();
+            if (previousArmorItems[i] != item) {
+                previousArmorItems[i] = item;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+
         // Calculate the armor points.
         int armor = 0;
-        for (final ItemStack stack : MinecraftClient.getInstance().player.getInventory().armor) {
-            armor += ArmorTypes1_8.findByType(Registries.ITEM.getId(stack.getItem()).toString()).getArmorPoints();
+        for (final Item item : previousArmorItems) {
+            if (item != null) {
+                armor += ARMOR_POINTS.getInt(item);
+            }
         }
 
         // We only want to update the armor points if they actually changed.
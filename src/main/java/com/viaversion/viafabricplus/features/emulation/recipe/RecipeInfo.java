@@ -21,6 +21,7 @@
 
 package com.viaversion.viafabricplus.features.emulation.recipe;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemConvertible;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.*;
@@ -28,6 +29,7 @@ import net.minecraft.recipe.book.CookingRecipeCategory;
 import net.minecraft.recipe.book.CraftingRecipeCategory;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.util.collection.DefaultedList;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Supplier;
@@ -38,9 +40,15 @@ import java.util.function.Supplier;
 public final class RecipeInfo {
 
     private final Supplier<Recipe<?>> creator;
+    private final Set<Item> inputItems;
 
     private RecipeInfo(Supplier<Recipe<?>> creator) {
+        this(creator, null);
+    }
+
+    private RecipeInfo(Supplier<Recipe<?>> creator, @Nullable Set<Item> inputItems) {
         this.creator = creator;
+        this.inputItems = inputItems;
     }
 
     /**
@@ -98,11 +106,13 @@ public final class RecipeInfo {
             shape.add(str);
         }
         Map<Character, Ingredient> legend = new HashMap<>();
+        final Set<Item> inputItems = new HashSet<>();
         while (i < args.length && args[i] instanceof Character key) {
             i++;
             List<ItemConvertible> items = new ArrayList<>();
             for (; i < args.length && args[i] instanceof ItemConvertible; i++) {
                 items.add((ItemConvertible) args[i]);
+                inputItems.add(((ItemConvertible) args[i]).asItem());
             }
             legend.put(key, Ingredient.ofItems(items.toArray(new ItemConvertible[0])));
         }
@@ -129,7 +139,7 @@ public final class RecipeInfo {
         }
 
         final int width_f = width;
-        return new RecipeInfo(() -> new ShapedRecipe(group, CraftingRecipeCategory.MISC, new RawShapedRecipe(width_f, height, ingredients, Optional.empty()), output, false));
+        return new RecipeInfo(() -> new ShapedRecipe(group, CraftingRecipeCategory.MISC, new RawShapedRecipe(width_f, height, ingredients, Optional.empty()), output, false), inputItems);
     }
 
     /**
@@ -208,10 +218,14 @@ public final class RecipeInfo {
      */
     public static RecipeInfo shapeless(String group, ItemStack output, ItemConvertible[]... inputs) {
         final DefaultedList<Ingredient> ingredients = DefaultedList.of();
+        final Set<Item> inputItems = new HashSet<>();
         for (ItemConvertible[] input : inputs) {
             ingredients.add(Ingredient.ofItems(input));
+            for (ItemConvertible item : input) {
+                inputItems.add(item.asItem());
+            }
         }
-        return new RecipeInfo(() -> new ShapelessRecipe(group, CraftingRecipeCategory.MISC, output, ingredients));
+        return new RecipeInfo(() -> new ShapelessRecipe(group, CraftingRecipeCategory.MISC, output, ingredients), inputItems);
     }
 
     /**
@@ -296,7 +310,8 @@ public final class RecipeInfo {
      * @return The recipe info containing a shapeless recipe
      */
     public static RecipeInfo smelting(ItemConvertible output, ItemConvertible input, float experience, int cookTime) {
-        return smelting(output, Ingredient.ofItems(input), experience, cookTime);
+        final Ingredient ingredient = Ingredient.ofItems(input);
+        return new RecipeInfo(() -> new SmeltingRecipe("", CookingRecipeCategory.MISC, ingredient, new ItemStack(output), experience, cookTime), Set.of(input.asItem()));
     }
 
     /**
@@ -322,4 +337,11 @@ public final class RecipeInfo {
         return new RecipeEntry<>(id, this.creator.get());
     }
 
+    /**
+     * @return Every item accepted by any ingredient of the recipe, or null if the recipe accepts arbitrary items
+     */
+    public @Nullable Set<Item> getInputItems() {
+        return this.inputItems;
+    }
+
 }
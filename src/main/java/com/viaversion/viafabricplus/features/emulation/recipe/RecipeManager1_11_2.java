@@ -22,45 +22,58 @@
 package com.viaversion.viafabricplus.features.emulation.recipe;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Recipe;
 import net.minecraft.recipe.RecipeEntry;
 import net.minecraft.recipe.RecipeType;
 import net.minecraft.recipe.input.RecipeInput;
 import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Identifier;
 import net.minecraft.world.World;
 
-import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Stream;
 
 public final class RecipeManager1_11_2 {
 
-    private final Multimap<RecipeType<?>, RecipeEntry<?>> recipesByType;
+    private final Map<RecipeType<?>, RecipeIndex> recipesByType;
     private final Map<RegistryKey<Recipe<?>>, RecipeEntry<?>> recipesById;
 
-    public RecipeManager1_11_2(final Iterable<RecipeEntry<?>> recipes) {
-        final ImmutableMultimap.Builder<RecipeType<?>, RecipeEntry<?>> recipesByTypeBuilder = ImmutableMultimap.builder();
+    public RecipeManager1_11_2(final List<RecipeInfo> recipeInfos) {
+        final Map<RecipeType<?>, RecipeIndex> recipesByType = new HashMap<>();
         final ImmutableMap.Builder<RegistryKey<Recipe<?>>, RecipeEntry<?>> recipesByIdBuilder = ImmutableMap.builder();
 
-        for (RecipeEntry<?> recipeEntry : recipes) {
-            final RecipeType<?> recipeType = recipeEntry.value().getType();
-            recipesByTypeBuilder.put(recipeType, recipeEntry);
+        for (int i = 0; i < recipeInfos.size(); i++) {
+            final RecipeInfo recipeInfo = recipeInfos.get(i);
+            final RegistryKey<Recipe<?>> key = RegistryKey.of(RegistryKeys.RECIPE, Identifier.of("viafabricplus", "recipe/" + i));
+            final RecipeEntry<?> recipeEntry = recipeInfo.create(key);
+
+            recipesByType.computeIfAbsent(recipeEntry.value().getType(), type -> new RecipeIndex()).add(recipeEntry, recipeInfo.getInputItems());
             recipesByIdBuilder.put(recipeEntry.id(), recipeEntry);
         }
 
-        this.recipesByType = recipesByTypeBuilder.build();
+        this.recipesByType = ImmutableMap.copyOf(recipesByType);
         this.recipesById = recipesByIdBuilder.build();
     }
 
     public <I extends RecipeInput, T extends Recipe<I>> Optional<RecipeEntry<T>> getFirstMatch(final RecipeType<T> type, final I input, final World world) {
-        if (input.isEmpty()) {
+        final RecipeIndex index = this.recipesByType.get(type);
+        if (index == null || input.isEmpty()) {
             return Optional.empty();
-        } else {
-            return this.recipesByType.get(type).stream().map(e -> (RecipeEntry<T>) e).filter(recipe -> recipe.value().matches(input, world)).findFirst();
         }
+
+        final BitSet candidates = index.getCandidates(input);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final RecipeEntry<T> recipe = (RecipeEntry<T>) index.recipes.get(i);
+            if (recipe.value().matches(input, world)) {
+                return Optional.of(recipe);
+            }
+        }
+        return Optional.empty();
     }
 
     public Optional<RecipeEntry<?>> get(final RegistryKey<Recipe<?>> id) {
@@ -75,4 +88,61 @@ public final class RecipeManager1_11_2 {
         return this.recipesById.keySet().stream();
     }
 
+    /**
+     * Recipes of a single type in registration order, indexed by the items they accept. A recipe can only match an input
+     * if every item in the input is accepted by one of its ingredients, so the candidates for an input are the intersection
+     * of the recipes accepting each input item plus the recipes which accept arbitrary items (e.g. armor dyeing).
+     */
+    private static final class RecipeIndex {
+
+        private final List<RecipeEntry<?>> recipes = new ArrayList<>();
+        private final Reference2ObjectMap<Item, BitSet> recipesByItem = new Reference2ObjectOpenHashMap<>();
+        private final BitSet unindexedRecipes = new BitSet();
+
+        private void add(final RecipeEntry<?> recipe, final Set<Item> inputItems) {
+            final int index = this.recipes.size();
+            this.recipes.add(recipe);
+            if (inputItems == null) {
+                this.unindexedRecipes.set(index);
+            } else {
+                for (Item item : inputItems) {
+                    this.recipesByItem.computeIfAbsent(item, i -> new BitSet()).set(index);
+                }
+            }
+        }
+
+        private BitSet getCandidates(final RecipeInput input) {
+            BitSet candidates = null;
+            Item previousItem = null;
+            for (int i = 0; i < input.size(); i++) {
+                final ItemStack stack = input.getStackInSlot(i);
+                if (stack.isEmpty() || stack.getItem() == previousItem) {
+                    continue;
+                }
+                previousItem = stack.getItem();
+
+                final BitSet recipes = this.recipesByItem.get(previousItem);
+                if (recipes == null) {
+                    candidates = new BitSet();
+                    break;
+                } else if (candidates == null) {
+                    candidates = (BitSet) recipes.clone();
+                } else {
+                    candidates.and(recipes);
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+
+            if (candidates == null) {
+                return (BitSet) this.unindexedRecipes.clone();
+            } else {
+                candidates.or(this.unindexedRecipes);
+                return candidates;
+            }
+        }
+
+    }
+
 }
@@ -35,38 +35,86 @@ import net.minecraft.network.packet.s2c.play.ScreenHandlerSlotUpdateS2CPacket;
 import net.minecraft.recipe.*;
 import net.minecraft.recipe.book.CraftingRecipeCategory;
 import net.minecraft.recipe.input.CraftingRecipeInput;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.registry.RegistryKeys;
 import net.minecraft.screen.ScreenHandler;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Recipe data dump for all versions below 1.12.
  */
 public final class Recipes1_11_2 {
 
-    private static RecipeManager1_11_2 RECIPE_MANAGER;
+    private static final int MAX_CACHED_RECIPE_MANAGERS = 4;
 
-    public static RecipeManager1_11_2 getRecipeManager() {
-        if (RECIPE_MANAGER == null) {
-            final List<RecipeInfo> recipeInfos = Recipes1_11_2.getRecipes(ProtocolTranslator.getTargetVersion());
-            final List<RecipeEntry<?>> recipes = new ArrayList<>(recipeInfos.size());
-            for (int i = 0; i < recipeInfos.size(); i++) {
-                final RegistryKey<Recipe<?>> key = RegistryKey.of(RegistryKeys.RECIPE, Identifier.of("viafabricplus", "recipe/" + i));
-                recipes.add(recipeInfos.get(i).create(key));
-            }
-            RECIPE_MANAGER = new RecipeManager1_11_2(recipes);
+    private static final Map<ProtocolVersion, RecipeManager1_11_2> RECIPE_MANAGERS = new LinkedHashMap<>(MAX_CACHED_RECIPE_MANAGERS, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ProtocolVersion, RecipeManager1_11_2> eldest) {
+            return size() > MAX_CACHED_RECIPE_MANAGERS;
         }
+    };
+    private static final Map<ProtocolVersion, CompletableFuture<RecipeManager1_11_2>> PENDING_RECIPE_MANAGERS = new HashMap<>();
 
-        return RECIPE_MANAGER;
+    private static RecipeManager1_11_2 lastRecipeManager;
+    /**
+     * Recomputes a crafting result which was computed with the previous recipe manager, run once the build finished.
+     */
+    private static Runnable staleCraftingResult;
+
+    /**
+     * Starts building the recipe manager for the given version on a worker thread unless it's already cached or being built.
+     * Must be called on the client thread.
+     *
+     * @param version The version
+     */
+    public static void prewarm(final ProtocolVersion version) {
+        if (!RECIPE_MANAGERS.containsKey(version)) {
+            PENDING_RECIPE_MANAGERS.computeIfAbsent(version, v -> {
+                final CompletableFuture<RecipeManager1_11_2> future = CompletableFuture.supplyAsync(() -> new RecipeManager1_11_2(getRecipes(v)), Util.getMainWorkerExecutor());
+                future.thenRunAsync(Recipes1_11_2::updateStaleCraftingResult, MinecraftClient.getInstance());
+                return future;
+            });
+        }
     }
 
-    public static void reset() {
-        RECIPE_MANAGER = null;
+    /**
+     * Releases the previously used recipe manager, called when switching to a version which doesn't use client side recipes.
+     * Must be called on the client thread.
+     */
+    public static void clearFallback() {
+        lastRecipeManager = null;
+        staleCraftingResult = null;
+    }
+
+    /**
+     * Returns the recipe manager for the current target version. While it's still being built, the previously used recipe
+     * manager is returned instead, the build is only waited for if there is none. Must be called on the client thread.
+     *
+     * @return The recipe manager
+     */
+    public static RecipeManager1_11_2 getRecipeManager() {
+        final ProtocolVersion targetVersion = ProtocolTranslator.getTargetVersion();
+        RecipeManager1_11_2 recipeManager = RECIPE_MANAGERS.get(targetVersion);
+        if (recipeManager == null) {
+            prewarm(targetVersion);
+            final CompletableFuture<RecipeManager1_11_2> future = PENDING_RECIPE_MANAGERS.get(targetVersion);
+            if (!future.isDone() && lastRecipeManager != null) {
+                return lastRecipeManager;
+            }
+
+            PENDING_RECIPE_MANAGERS.remove(targetVersion);
+            recipeManager = future.join();
+            RECIPE_MANAGERS.put(targetVersion, recipeManager);
+        }
+
+        lastRecipeManager = recipeManager;
+        return recipeManager;
     }
 
     /**
@@ -736,7 +784,18 @@ public final class Recipes1_11_2 {
         final ClientWorld world = MinecraftClient.getInstance().world;
         final CraftingRecipeInput input = inventory.createRecipeInput();
 
-        final ItemStack result = getRecipeManager()
+        final RecipeManager1_11_2 recipeManager = getRecipeManager();
+        if (PENDING_RECIPE_MANAGERS.containsKey(ProtocolTranslator.getTargetVersion())) {
+            // The recipes of the previous version were used, update the result again once the current ones are built
+            staleCraftingResult = () -> {
+                final MinecraftClient client = MinecraftClient.getInstance();
+                if (client.player != null && client.player.currentScreenHandler == screenHandler && ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_11_1)) {
+                    setCraftingResultSlot(syncId, screenHandler, inventory);
+                }
+            };
+        }
+
+        final ItemStack result = recipeManager
                 .getFirstMatch(RecipeType.CRAFTING, input, world) // Get the first matching recipe
                 .map(recipe -> recipe.value().craft(input, network.getRegistryManager())) // Craft the recipe to get the result
                 .orElse(ItemStack.EMPTY); // If there is no recipe, set the result to air
@@ -745,4 +804,12 @@ public final class Recipes1_11_2 {
         network.onScreenHandlerSlotUpdate(new ScreenHandlerSlotUpdateS2CPacket(syncId, screenHandler.getRevision(), 0, result));
     }
 
+    private static void updateStaleCraftingResult() {
+        final Runnable update = staleCraftingResult;
+        if (update != null) {
+            staleCraftingResult = null;
+            update.run();
+        }
+    }
+
 }
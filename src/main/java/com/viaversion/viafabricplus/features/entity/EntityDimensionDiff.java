@@ -24,12 +24,16 @@ package com.viaversion.viafabricplus.features.entity;
 import com.viaversion.viafabricplus.base.Events;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityAttachmentType;
 import net.minecraft.entity.EntityAttachments;
 import net.minecraft.entity.EntityDimensions;
 import net.minecraft.entity.EntityType;
+import net.minecraft.registry.Registries;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 
+import java.util.BitSet;
 import java.util.Map;
 
 import static com.viaversion.viafabricplus.util.MapUtil.linkedHashMap;
@@ -150,19 +154,56 @@ public final class EntityDimensionDiff {
     );
 
     static {
-        Events.CHANGE_PROTOCOL_VERSION.register((oldVersion, newVersion) -> MinecraftClient.getInstance().execute(() -> ENTITY_DIMENSIONS.forEach((entityType, dimensionMap) -> {
-            for (Map.Entry<ProtocolVersion, EntityDimensions> entry : dimensionMap.entrySet()) {
-                final ProtocolVersion version = entry.getKey();
-                final EntityDimensions dimensions = entry.getValue();
-                if (oldVersion.newerThan(version) && newVersion.olderThanOrEqualTo(version)) {
+        Events.CHANGE_PROTOCOL_VERSION.register((oldVersion, newVersion) -> MinecraftClient.getInstance().execute(() -> {
+            final EntityDimensions[] compiledDimensions = compile(newVersion);
+
+            final BitSet changedTypes = new BitSet();
+            for (EntityType<?> entityType : ENTITY_DIMENSIONS.keySet()) {
+                final int id = Registries.ENTITY_TYPE.getRawId(entityType);
+                final EntityDimensions dimensions = compiledDimensions[id];
+                if (entityType.dimensions != dimensions) {
                     entityType.dimensions = dimensions;
-                    break;
+                    changedTypes.set(id);
                 }
-                if (newVersion.newerThanOrEqualTo(version) && oldVersion.olderThanOrEqualTo(version)) {
-                    entityType.dimensions = dimensions;
+            }
+            refreshEntities(changedTypes);
+        }));
+    }
+
+    /**
+     * The inner maps are ordered from old to new, every entry applies to its version and all older versions which aren't
+     * covered by a previous entry. The last entry contains the native dimensions.
+     *
+     * @return The dimensions for the given version indexed by the raw id of the entity type, null if the entity type isn't changed
+     */
+    private static EntityDimensions[] compile(final ProtocolVersion version) {
+        final EntityDimensions[] dimensions = new EntityDimensions[Registries.ENTITY_TYPE.size()];
+        ENTITY_DIMENSIONS.forEach((entityType, dimensionMap) -> {
+            EntityDimensions selected = null;
+            for (Map.Entry<ProtocolVersion, EntityDimensions> entry : dimensionMap.entrySet()) {
+                selected = entry.getValue();
+                if (version.olderThanOrEqualTo(entry.getKey())) {
+                    break;
                 }
             }
-        })));
+            dimensions[Registries.ENTITY_TYPE.getRawId(entityType)] = selected;
+        });
+        return dimensions;
+    }
+
+    /**
+     * Recalculates the bounding boxes of all loaded entities whose dimensions changed, instead of waiting for their next pose change.
+     */
+    private static void refreshEntities(final BitSet changedTypes) {
+        final ClientWorld world = MinecraftClient.getInstance().world;
+        if (world == null || changedTypes.isEmpty()) {
+            return;
+        }
+        for (Entity entity : world.getEntities()) {
+            if (changedTypes.get(Registries.ENTITY_TYPE.getRawId(entity.getType()))) {
+                entity.calculateDimensions();
+            }
+        }
     }
 
     public static void init() {
@@ -29,44 +29,59 @@ import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.enchantment.Enchantments;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.registry.tag.BlockTags;
 
-import java.util.Optional;
-
 public final class EnchantmentAttributesEmulation1_20_6 {
 
+    /**
+     * The registry manager the enchantment entries below were resolved from, the entries are resolved again when it changes (e.g. on world join).
+     */
+    private static DynamicRegistryManager resolvedRegistryManager;
+
+    private static RegistryEntry<Enchantment> depthStrider;
+    private static RegistryEntry<Enchantment> soulSpeed;
+    private static RegistryEntry<Enchantment> efficiency;
+    private static RegistryEntry<Enchantment> swiftSneak;
+    private static RegistryEntry<Enchantment> aquaAffinity;
+
     static {
         ClientTickEvents.START_WORLD_TICK.register(world -> {
             if (ProtocolTranslator.getTargetVersion().newerThan(ProtocolVersion.v1_20_5)) {
                 return;
             }
-            // Update generic attributes for all entities
-            for (Entity entity : world.getEntities()) {
-                if (entity.isLogicalSideForUpdatingMovement() && entity instanceof LivingEntity livingEntity) {
-                    livingEntity.getAttributeInstance(EntityAttributes.WATER_MOVEMENT_EFFICIENCY).setBaseValue(getEquipmentLevel(Enchantments.DEPTH_STRIDER, livingEntity) / 3F);
-                    setGenericMovementEfficiencyAttribute(livingEntity);
-                }
-            }
+            resolveEnchantments(world.getRegistryManager());
 
-            // Update player specific attributes for all players
+            // Only entities on the logical side are updated, which are the client player and the vehicles controlled by it,
+            // so there is no need to iterate over all entities in the world
             for (PlayerEntity player : world.getPlayers()) {
                 if (!player.isLogicalSideForUpdatingMovement()) {
                     continue;
                 }
-                final int efficiencyLevel = getEquipmentLevel(Enchantments.EFFICIENCY, player);
+                updateGenericAttributes(player);
+                for (Entity vehicle = player.getVehicle(); vehicle != null; vehicle = vehicle.getVehicle()) {
+                    if (vehicle.isLogicalSideForUpdatingMovement() && vehicle instanceof LivingEntity livingEntity) {
+                        updateGenericAttributes(livingEntity);
+                    }
+                }
+
+                // Update player specific attributes
+                final int efficiencyLevel = getEquipmentLevel(efficiency, player);
                 if (efficiencyLevel > 0) {
-                    player.getAttributeInstance(EntityAttributes.MINING_EFFICIENCY).setBaseValue(efficiencyLevel * efficiencyLevel + 1);
+                    setBaseValue(player, EntityAttributes.MINING_EFFICIENCY, efficiencyLevel * efficiencyLevel + 1);
                 } else {
-                    player.getAttributeInstance(EntityAttributes.MINING_EFFICIENCY).setBaseValue(0);
+                    setBaseValue(player, EntityAttributes.MINING_EFFICIENCY, 0);
                 }
 
-                player.getAttributeInstance(EntityAttributes.SNEAKING_SPEED).setBaseValue(0.3F + getEquipmentLevel(Enchantments.SWIFT_SNEAK, player) * 0.15F);
-                player.getAttributeInstance(EntityAttributes.SUBMERGED_MINING_SPEED).setBaseValue(getEquipmentLevel(Enchantments.AQUA_AFFINITY, player) <= 0 ? 0.2F : 1F);
+                setBaseValue(player, EntityAttributes.SNEAKING_SPEED, 0.3F + getEquipmentLevel(swiftSneak, player) * 0.15F);
+                setBaseValue(player, EntityAttributes.SUBMERGED_MINING_SPEED, getEquipmentLevel(aquaAffinity, player) <= 0 ? 0.2F : 1F);
             }
         });
     }
@@ -75,22 +90,51 @@ public final class EnchantmentAttributesEmulation1_20_6 {
         // Calls the static block
     }
 
+    private static void updateGenericAttributes(final LivingEntity entity) {
+        setBaseValue(entity, EntityAttributes.WATER_MOVEMENT_EFFICIENCY, getEquipmentLevel(depthStrider, entity) / 3F);
+        setGenericMovementEfficiencyAttribute(entity);
+    }
+
     /**
      * Called from MixinLivingEntity as well to ensure the attribute value is set at the correct place in the entity tick logic.
      * Called above just as a fallback if a mod accesses the raw attribute value directly.
      */
     public static void setGenericMovementEfficiencyAttribute(final LivingEntity entity) {
+        resolveEnchantments(entity.getWorld().getRegistryManager());
+
         final boolean isOnSoulSpeedBlock = entity.getWorld().getBlockState(entity.getVelocityAffectingPos()).isIn(BlockTags.SOUL_SPEED_BLOCKS);
-        if (isOnSoulSpeedBlock && getEquipmentLevel(Enchantments.SOUL_SPEED, entity) > 0) {
-            entity.getAttributeInstance(EntityAttributes.MOVEMENT_EFFICIENCY).setBaseValue(1);
+        if (isOnSoulSpeedBlock && getEquipmentLevel(soulSpeed, entity) > 0) {
+            setBaseValue(entity, EntityAttributes.MOVEMENT_EFFICIENCY, 1);
         } else {
-            entity.getAttributeInstance(EntityAttributes.MOVEMENT_EFFICIENCY).setBaseValue(0);
+            setBaseValue(entity, EntityAttributes.MOVEMENT_EFFICIENCY, 0);
+        }
+    }
+
+    private static void resolveEnchantments(final DynamicRegistryManager registryManager) {
+        if (registryManager == resolvedRegistryManager) {
+            return;
         }
+        final Registry<Enchantment> registry = registryManager.getOrThrow(RegistryKeys.ENCHANTMENT);
+        depthStrider = registry.getOptional(Enchantments.DEPTH_STRIDER).orElse(null);
+        soulSpeed = registry.getOptional(Enchantments.SOUL_SPEED).orElse(null);
+        efficiency = registry.getOptional(Enchantments.EFFICIENCY).orElse(null);
+        swiftSneak = registry.getOptional(Enchantments.SWIFT_SNEAK).orElse(null);
+        aquaAffinity = registry.getOptional(Enchantments.AQUA_AFFINITY).orElse(null);
+        resolvedRegistryManager = registryManager;
     }
 
-    private static int getEquipmentLevel(final RegistryKey<Enchantment> enchantment, final LivingEntity entity) {
-        final Optional<RegistryEntry.Reference<Enchantment>> enchantmentRef = entity.getWorld().getRegistryManager().getOrThrow(RegistryKeys.ENCHANTMENT).getOptional(enchantment);
-        return enchantmentRef.map(e -> EnchantmentHelper.getEquipmentLevel(e, entity)).orElse(0);
+    private static int getEquipmentLevel(final RegistryEntry<Enchantment> enchantment, final LivingEntity entity) {
+        return enchantment != null ? EnchantmentHelper.getEquipmentLevel(enchantment, entity) : 0;
+    }
+
+    /**
+     * Only updates the base value if it changed, as every update marks the attribute as dirty and recalculates its value.
+     */
+    private static void setBaseValue(final LivingEntity entity, final RegistryEntry<EntityAttribute> attribute, final double value) {
+        final EntityAttributeInstance instance = entity.getAttributeInstance(attribute);
+        if (instance != null && instance.getBaseValue() != value) {
+            instance.setBaseValue(value);
+        }
     }
 
 }
@@ -38,6 +38,7 @@ import net.minecraft.entity.vehicle.AbstractMinecartEntity;
 import net.minecraft.entity.vehicle.BoatEntity;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import org.joml.Vector3d;
 
 /**
  * Minecraft 1.20.2 changed the calculation of the mounted height offset for all entities, this class contains the old
@@ -45,6 +46,14 @@ import net.minecraft.util.math.Vec3d;
  */
 public final class EntityRidingOffsetsPre1_20_2 {
 
+    /**
+     * Reused by {@link #getMountedHeightOffset(Entity, Entity)} and {@link #getPassengerRidingPos(Entity, Entity)}, which are called per passenger every tick and frame.
+     */
+    private static final ThreadLocal<Vector3d> SCRATCH = ThreadLocal.withInitial(Vector3d::new);
+
+    private static final float BOAT_ROTATION_COS = MathHelper.cos(-(float) (Math.PI / 2));
+    private static final float BOAT_ROTATION_SIN = MathHelper.sin(-(float) (Math.PI / 2));
+
     /**
      * Returns the mounted height offset for the given entity and passenger. This method is used for 1.20.1 and lower.
      *
@@ -53,17 +62,47 @@ public final class EntityRidingOffsetsPre1_20_2 {
      * @return The mounted height offset.
      */
     public static Vec3d getMountedHeightOffset(final Entity entity, final Entity passenger) {
+        final Vector3d offset = getMountedHeightOffset(entity, passenger, SCRATCH.get());
+        return new Vec3d(offset.x, offset.y, offset.z);
+    }
+
+    /**
+     * Returns the mounted height offset rotated by the yaw of the entity, which is the riding position of the passenger
+     * relative to the entity. This method is used for 1.20.1 and lower.
+     *
+     * @param entity    The entity to get the riding position for.
+     * @param passenger The passenger of the entity.
+     * @return The riding position relative to the entity.
+     */
+    public static Vec3d getPassengerRidingPos(final Entity entity, final Entity passenger) {
+        final Vector3d offset = getMountedHeightOffset(entity, passenger, SCRATCH.get());
+        // Same as Vec3d#rotateY
+        final float angle = -entity.getYaw() * (float) (Math.PI / 180);
+        final float cos = MathHelper.cos(angle);
+        final float sin = MathHelper.sin(angle);
+        return new Vec3d(offset.x * cos + offset.z * sin, offset.y, offset.z * cos - offset.x * sin);
+    }
+
+    /**
+     * Mutable variant of {@link #getMountedHeightOffset(Entity, Entity)} which doesn't allocate.
+     *
+     * @param entity    The entity to get the mounted height offset for.
+     * @param passenger The passenger of the entity.
+     * @param dest      The vector to store the offset in.
+     * @return The dest vector.
+     */
+    public static Vector3d getMountedHeightOffset(final Entity entity, final Entity passenger, final Vector3d dest) {
         double yOffset = entity.getHeight() * 0.75F;
 
         if (entity instanceof AbstractBoatEntity abstractBoatEntity) {
-            if (!abstractBoatEntity.hasPassenger(passenger)) return Vec3d.ZERO;
+            if (!abstractBoatEntity.hasPassenger(passenger)) return dest.zero();
 
             if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
                 yOffset = -0.3F;
                 final double xOffset = MathHelper.cos(abstractBoatEntity.getYaw() * MathHelper.PI / 180F);
                 final double zOffset = MathHelper.sin(abstractBoatEntity.getYaw() * MathHelper.PI / 180F);
 
-                return new Vec3d(0.4F * xOffset, yOffset, 0.4F * zOffset);
+                return dest.set(0.4F * xOffset, yOffset, 0.4F * zOffset);
             } else {
                 if (abstractBoatEntity.isRemoved()) {
                     yOffset = 0.01F;
@@ -73,8 +112,7 @@ public final class EntityRidingOffsetsPre1_20_2 {
 
                 double xOffset = abstractBoatEntity instanceof AbstractChestBoatEntity ? 0.15F : 0F;
                 if (abstractBoatEntity.getPassengerList().size() > 1) {
-                    final int idx = abstractBoatEntity.getPassengerList().indexOf(passenger);
-                    if (idx == 0) {
+                    if (abstractBoatEntity.getFirstPassenger() == passenger) {
                         xOffset = 0.2F;
                     } else {
                         xOffset = -0.6F;
@@ -83,12 +121,13 @@ public final class EntityRidingOffsetsPre1_20_2 {
                     if (passenger instanceof AnimalEntity) xOffset += 0.2F;
                 }
 
-                return new Vec3d(xOffset, yOffset, 0F).rotateY(-(float) (Math.PI / 2));
+                // Same as rotating (xOffset, yOffset, 0) by -90 degrees around the y axis
+                return dest.set(xOffset * BOAT_ROTATION_COS, yOffset, -xOffset * BOAT_ROTATION_SIN);
             }
         } else if (entity instanceof CamelEntity camelEntity) {
-            if (!camelEntity.hasPassenger(passenger)) return Vec3d.ZERO;
+            if (!camelEntity.hasPassenger(passenger)) return dest.zero();
 
-            final boolean firstPassenger = camelEntity.getPassengerList().indexOf(passenger) == 0;
+            final boolean firstPassenger = camelEntity.getFirstPassenger() == passenger;
             yOffset = camelEntity.getDimensions(camelEntity.isSitting() ? EntityPose.SITTING : EntityPose.STANDING).height() - (camelEntity.isBaby() ? 0.35F : 0.6F);
             if (camelEntity.isRemoved()) {
                 yOffset = 0.01F;
@@ -102,15 +141,15 @@ public final class EntityRidingOffsetsPre1_20_2 {
                 if (passenger instanceof AnimalEntity) zOffset += 0.2F;
             }
 
-            return new Vec3d(0, yOffset, zOffset);
+            return dest.set(0, yOffset, zOffset);
         } else if (entity instanceof ChickenEntity chickenEntity) {
-            return new Vec3d(0, chickenEntity.getBodyY(0.5D) - chickenEntity.getY(), -0.1F);
+            return dest.set(0, chickenEntity.getBodyY(0.5D) - chickenEntity.getY(), -0.1F);
         } else if (entity instanceof EnderDragonEntity enderDragonEntity) {
             yOffset = enderDragonEntity.body.getHeight();
         } else if (entity instanceof HoglinEntity hoglinEntity) {
             yOffset = hoglinEntity.getHeight() - (hoglinEntity.isBaby() ? 0.2F : 0.15F);
         } else if (entity instanceof LlamaEntity) {
-            return new Vec3d(0, entity.getHeight() * 0.6F, -0.3F);
+            return dest.set(0, entity.getHeight() * 0.6F, -0.3F);
         } else if (entity instanceof PhantomEntity) {
             yOffset = entity.getStandingEyeHeight();
         } else if (entity instanceof PiglinEntity) {
@@ -137,11 +176,11 @@ public final class EntityRidingOffsetsPre1_20_2 {
 
         if (entity instanceof AbstractHorseEntity abstractHorseEntity) {
             if (abstractHorseEntity.lastAngryAnimationProgress > 0.0F) {
-                return new Vec3d(0, yOffset + 0.15F * abstractHorseEntity.lastAngryAnimationProgress, -0.7F * abstractHorseEntity.lastAngryAnimationProgress);
+                return dest.set(0, yOffset + 0.15F * abstractHorseEntity.lastAngryAnimationProgress, -0.7F * abstractHorseEntity.lastAngryAnimationProgress);
             }
         }
 
-        return new Vec3d(0, yOffset, 0);
+        return dest.set(0, yOffset, 0);
     }
 
     /**
@@ -163,7 +202,7 @@ public final class EntityRidingOffsetsPre1_20_2 {
             return 0.1D;
         } else if (entity instanceof ShulkerEntity shulkerEntity) {
             final EntityType<?> vehicleType = shulkerEntity.getVehicle().getType();
-            return !(shulkerEntity.getVehicle() instanceof BoatEntity) && vehicleType != EntityType.MINECART ? 0D : 0.1875D - getMountedHeightOffset(shulkerEntity.getVehicle(), null).y;
+            return !(shulkerEntity.getVehicle() instanceof BoatEntity) && vehicleType != EntityType.MINECART ? 0D : 0.1875D - getMountedHeightOffset(shulkerEntity.getVehicle(), null, SCRATCH.get()).y;
         } else if (entity instanceof SilverfishEntity) {
             return 0.1D;
         } else if (entity instanceof ZombifiedPiglinEntity zombifiedPiglinEntity) {
@@ -23,12 +23,11 @@ package com.viaversion.viafabricplus.features.font.filter_non_existing_character
 
 import com.viaversion.viafabricplus.ViaFabricPlus;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.IntConsumer;
+
+import java.util.Arrays;
+import java.util.BitSet;
 
 import static com.viaversion.viaversion.api.protocol.version.ProtocolVersion.*;
-import static java.util.stream.IntStream.rangeClosed;
 import static net.raphimc.vialegacy.api.LegacyProtocolVersion.c0_0_15a_1;
 
 /**
@@ -39,937 +38,942 @@ import static net.raphimc.vialegacy.api.LegacyProtocolVersion.c0_0_15a_1;
  */
 public final class RenderableGlyphDiff {
 
-    private static final Int2ObjectMap<ProtocolVersion> RENDERABLE_GLYPH_DIFF_LEGACY = new Int2ObjectOpenHashMap<>();
-    private static final Int2ObjectMap<ProtocolVersion> RENDERABLE_GLYPH_DIFF = new Int2ObjectOpenHashMap<>();
+    private static final GlyphRanges RENDERABLE_GLYPH_DIFF_LEGACY = new GlyphRanges();
+    private static final GlyphRanges RENDERABLE_GLYPH_DIFF = new GlyphRanges();
+
+    /**
+     * Renderable code points for the last queried version, compiled lazily from the ranges above
+     */
+    private static volatile CompiledGlyphs compiledGlyphs;
 
     static {
-        rangeClosed(0, 887).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(890, 894).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(900, 906).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(908, c0_0_15a_1);
-        rangeClosed(910, 929).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(931, 1315).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1329, 1366).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1369, 1418).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(1423, c0_0_15a_1);
-        rangeClosed(1425, 1479).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1488, 1514).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1520, 1524).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1536, 1539).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1542, 1563).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1566, 1567).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1569, 1630).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1632, 1805).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1807, 1866).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1869, 1969).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(1984, 2042).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2305, 2361).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2364, 2381).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2384, 2388).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2392, 2418).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2427, 2431).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2433, 2435).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2437, 2444).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2447, 2448).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2451, 2472).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2474, 2480).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2482, c0_0_15a_1);
-        rangeClosed(2486, 2489).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2492, 2500).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2503, 2504).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2507, 2510).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2519, c0_0_15a_1);
-        rangeClosed(2524, 2525).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2527, 2531).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2534, 2554).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2561, 2563).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2565, 2570).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2575, 2576).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2579, 2600).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2602, 2608).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2610, 2611).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2613, 2614).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2616, 2617).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2620, c0_0_15a_1);
-        rangeClosed(2622, 2626).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2631, 2632).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2635, 2637).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2641, c0_0_15a_1);
-        rangeClosed(2649, 2652).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2654, c0_0_15a_1);
-        rangeClosed(2662, 2677).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2689, 2691).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2693, 2701).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2703, 2705).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2707, 2728).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2730, 2736).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2738, 2739).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2741, 2745).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2748, 2757).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2759, 2761).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2763, 2765).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2768, c0_0_15a_1);
-        rangeClosed(2784, 2787).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2790, 2799).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2801, c0_0_15a_1);
-        rangeClosed(2817, 2819).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2821, 2828).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2831, 2832).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2835, 2856).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2858, 2864).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2866, 2867).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2869, 2873).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2876, 2884).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2887, 2888).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2891, 2893).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2902, 2903).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2908, 2909).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2911, 2915).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2918, 2929).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2946, 2947).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2949, 2954).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2958, 2960).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2962, 2965).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2969, 2970).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(2972, c0_0_15a_1);
-        rangeClosed(2974, 2975).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2979, 2980).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2984, 2986).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(2990, 3001).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3006, 3010).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3014, 3016).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3018, 3021).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3024, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3031, c0_0_15a_1);
-        rangeClosed(3046, 3066).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3073, 3075).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3077, 3084).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3086, 3088).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3090, 3112).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3114, 3123).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3125, 3129).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3133, 3140).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3142, 3144).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3146, 3149).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3157, 3158).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3160, 3161).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3168, 3171).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3174, 3183).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3192, 3199).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3202, 3203).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3205, 3212).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3214, 3216).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3218, 3240).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3242, 3251).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3253, 3257).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3260, 3268).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3270, 3272).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3274, 3277).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3285, 3286).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3294, c0_0_15a_1);
-        rangeClosed(3296, 3299).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3302, 3311).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3313, 3314).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3330, 3331).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3333, 3340).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3342, 3344).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3346, 3368).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3370, 3385).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3389, 3396).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3398, 3400).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3402, 3405).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3415, c0_0_15a_1);
-        rangeClosed(3424, 3427).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3430, 3445).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3449, 3455).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3458, 3459).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3461, 3478).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3482, 3505).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3507, 3515).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3517, c0_0_15a_1);
-        rangeClosed(3520, 3526).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3530, c0_0_15a_1);
-        rangeClosed(3535, 3540).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3542, c0_0_15a_1);
-        rangeClosed(3544, 3551).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3570, 3572).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3585, 3642).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3647, 3675).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3713, 3714).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3716, c0_0_15a_1);
-        rangeClosed(3719, 3720).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3722, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3725, c0_0_15a_1);
-        rangeClosed(3732, 3735).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3737, 3743).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3745, 3747).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3749, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3751, c0_0_15a_1);
-        rangeClosed(3754, 3755).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3757, 3769).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3771, 3773).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3776, 3780).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(3782, c0_0_15a_1);
-        rangeClosed(3784, 3789).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3792, 3801).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3804, 3805).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3840, 3911).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3913, 3948).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3953, 3979).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3984, 3991).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(3993, 4028).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4030, 4044).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4046, 4052).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4096, 4249).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4254, 4293).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4304, 4348).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4352, 4441).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4447, 4514).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4520, 4601).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4608, 4680).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4682, 4685).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4688, 4694).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(4696, c0_0_15a_1);
-        rangeClosed(4698, 4701).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4704, 4744).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4746, 4749).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4752, 4784).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4786, 4789).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4792, 4798).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(4800, c0_0_15a_1);
-        rangeClosed(4802, 4805).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4808, 4822).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4824, 4880).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4882, 4885).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4888, 4954).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4959, 4988).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(4992, 5017).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5024, 5108).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5121, 5750).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5760, 5788).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5792, 5880).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5888, 5900).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5902, 5908).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5920, 5942).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5952, 5971).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5984, 5996).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(5998, 6000).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6002, 6003).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6016, 6109).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6112, 6121).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6128, 6137).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6144, 6158).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6160, 6169).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6176, 6263).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6272, 6314).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6400, 6428).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6432, 6443).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6448, 6459).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(6464, c0_0_15a_1);
-        rangeClosed(6468, 6509).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6512, 6516).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6528, 6569).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6576, 6601).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6608, 6617).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6622, 6683).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6686, 6687).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6912, 6987).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(6992, 7036).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7040, 7082).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7086, 7097).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7168, 7223).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7227, 7241).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7245, 7295).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7424, 7654).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7678, 7957).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7960, 7965).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(7968, 8005).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8008, 8013).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8016, 8023).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8025, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8027, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8029, c0_0_15a_1);
-        rangeClosed(8031, 8061).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8064, 8116).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8118, 8132).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8134, 8147).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8150, 8155).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8157, 8175).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8178, 8180).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8182, 8190).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8192, 8292).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8298, 8305).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8308, 8334).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8336, 8340).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8352, 8373).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8381, c0_0_15a_1);
-        rangeClosed(8400, 8432).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8448, 8527).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8531, 8584).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(8592, 9143).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9145, 9191).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9193, 9194).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9197, 9199).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9204, 9213).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9216, 9254).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9280, 9290).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9312, 9885).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9888, 9916).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9920, 9923).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(9935, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(9960, c0_0_15a_1);
-        rangeClosed(9985, 9988).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9990, 9993).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(9996, 10023).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(10025, 10061).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(10063, 10066).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(10070, c0_0_15a_1);
-        rangeClosed(10072, 10078).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(10081, 10132).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(10136, 10159).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(10161, 10174).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(10176, 10186).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(10188, c0_0_15a_1);
-        rangeClosed(10192, 11084).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11088, 11092).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(11096, c0_0_15a_1);
-        rangeClosed(11264, 11310).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11312, 11358).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11360, 11375).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11377, 11389).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11392, 11498).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11513, 11557).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11568, 11621).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(11631, c0_0_15a_1);
-        rangeClosed(11648, 11670).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11680, 11686).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11688, 11694).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11696, 11702).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11704, 11710).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11712, 11718).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11720, 11726).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11728, 11734).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11736, 11742).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11744, 11824).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(11829, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(11832, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(11841, c0_0_15a_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(11851, c0_0_15a_1);
-        rangeClosed(11904, 11929).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(11931, 12019).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12032, 12245).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12272, 12283).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12288, 12351).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12353, 12438).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12441, 12543).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12549, 12589).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12593, 12686).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12688, 12727).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12736, 12771).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12784, 12830).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12832, 12867).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(12880, 13054).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(13056, 19893).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(19904, 40899).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(40960, 42124).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(42128, 42182).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(42240, 42539).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(42560, 42591).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(42594, 42611).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(42620, 42647).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(42752, 42892).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(42928, c0_0_15a_1);
-        rangeClosed(43003, 43051).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43072, 43127).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43136, 43204).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43214, 43225).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43264, 43347).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(43359, c0_0_15a_1);
-        rangeClosed(43520, 43574).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43584, 43597).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43600, 43609).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(43612, 43615).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(44032, 55203).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(63744, 64045).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64048, 64106).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64112, 64217).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64256, 64262).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64275, 64279).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64285, 64310).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64312, 64316).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(64318, c0_0_15a_1);
-        rangeClosed(64320, 64321).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64323, 64324).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64326, 64433).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64467, 64831).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64848, 64911).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64914, 64967).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(64976, 65021).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65024, 65049).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65056, 65062).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65072, 65106).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65108, 65126).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65128, 65131).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65136, 65140).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65142, 65276).forEach(putLegacy(c0_0_15a_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(65279, c0_0_15a_1);
-        rangeClosed(65281, 65470).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65474, 65479).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65482, 65487).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65490, 65495).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65498, 65500).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65504, 65510).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65512, 65518).forEach(putLegacy(c0_0_15a_1));
-        rangeClosed(65529, 65535).forEach(putLegacy(c0_0_15a_1));
+        putLegacy(0, 887, c0_0_15a_1);
+        putLegacy(890, 894, c0_0_15a_1);
+        putLegacy(900, 906, c0_0_15a_1);
+        putLegacy(908, c0_0_15a_1);
+        putLegacy(910, 929, c0_0_15a_1);
+        putLegacy(931, 1315, c0_0_15a_1);
+        putLegacy(1329, 1366, c0_0_15a_1);
+        putLegacy(1369, 1418, c0_0_15a_1);
+        putLegacy(1423, c0_0_15a_1);
+        putLegacy(1425, 1479, c0_0_15a_1);
+        putLegacy(1488, 1514, c0_0_15a_1);
+        putLegacy(1520, 1524, c0_0_15a_1);
+        putLegacy(1536, 1539, c0_0_15a_1);
+        putLegacy(1542, 1563, c0_0_15a_1);
+        putLegacy(1566, 1567, c0_0_15a_1);
+        putLegacy(1569, 1630, c0_0_15a_1);
+        putLegacy(1632, 1805, c0_0_15a_1);
+        putLegacy(1807, 1866, c0_0_15a_1);
+        putLegacy(1869, 1969, c0_0_15a_1);
+        putLegacy(1984, 2042, c0_0_15a_1);
+        putLegacy(2305, 2361, c0_0_15a_1);
+        putLegacy(2364, 2381, c0_0_15a_1);
+        putLegacy(2384, 2388, c0_0_15a_1);
+        putLegacy(2392, 2418, c0_0_15a_1);
+        putLegacy(2427, 2431, c0_0_15a_1);
+        putLegacy(2433, 2435, c0_0_15a_1);
+        putLegacy(2437, 2444, c0_0_15a_1);
+        putLegacy(2447, 2448, c0_0_15a_1);
+        putLegacy(2451, 2472, c0_0_15a_1);
+        putLegacy(2474, 2480, c0_0_15a_1);
+        putLegacy(2482, c0_0_15a_1);
+        putLegacy(2486, 2489, c0_0_15a_1);
+        putLegacy(2492, 2500, c0_0_15a_1);
+        putLegacy(2503, 2504, c0_0_15a_1);
+        putLegacy(2507, 2510, c0_0_15a_1);
+        putLegacy(2519, c0_0_15a_1);
+        putLegacy(2524, 2525, c0_0_15a_1);
+        putLegacy(2527, 2531, c0_0_15a_1);
+        putLegacy(2534, 2554, c0_0_15a_1);
+        putLegacy(2561, 2563, c0_0_15a_1);
+        putLegacy(2565, 2570, c0_0_15a_1);
+        putLegacy(2575, 2576, c0_0_15a_1);
+        putLegacy(2579, 2600, c0_0_15a_1);
+        putLegacy(2602, 2608, c0_0_15a_1);
+        putLegacy(2610, 2611, c0_0_15a_1);
+        putLegacy(2613, 2614, c0_0_15a_1);
+        putLegacy(2616, 2617, c0_0_15a_1);
+        putLegacy(2620, c0_0_15a_1);
+        putLegacy(2622, 2626, c0_0_15a_1);
+        putLegacy(2631, 2632, c0_0_15a_1);
+        putLegacy(2635, 2637, c0_0_15a_1);
+        putLegacy(2641, c0_0_15a_1);
+        putLegacy(2649, 2652, c0_0_15a_1);
+        putLegacy(2654, c0_0_15a_1);
+        putLegacy(2662, 2677, c0_0_15a_1);
+        putLegacy(2689, 2691, c0_0_15a_1);
+        putLegacy(2693, 2701, c0_0_15a_1);
+        putLegacy(2703, 2705, c0_0_15a_1);
+        putLegacy(2707, 2728, c0_0_15a_1);
+        putLegacy(2730, 2736, c0_0_15a_1);
+        putLegacy(2738, 2739, c0_0_15a_1);
+        putLegacy(2741, 2745, c0_0_15a_1);
+        putLegacy(2748, 2757, c0_0_15a_1);
+        putLegacy(2759, 2761, c0_0_15a_1);
+        putLegacy(2763, 2765, c0_0_15a_1);
+        putLegacy(2768, c0_0_15a_1);
+        putLegacy(2784, 2787, c0_0_15a_1);
+        putLegacy(2790, 2799, c0_0_15a_1);
+        putLegacy(2801, c0_0_15a_1);
+        putLegacy(2817, 2819, c0_0_15a_1);
+        putLegacy(2821, 2828, c0_0_15a_1);
+        putLegacy(2831, 2832, c0_0_15a_1);
+        putLegacy(2835, 2856, c0_0_15a_1);
+        putLegacy(2858, 2864, c0_0_15a_1);
+        putLegacy(2866, 2867, c0_0_15a_1);
+        putLegacy(2869, 2873, c0_0_15a_1);
+        putLegacy(2876, 2884, c0_0_15a_1);
+        putLegacy(2887, 2888, c0_0_15a_1);
+        putLegacy(2891, 2893, c0_0_15a_1);
+        putLegacy(2902, 2903, c0_0_15a_1);
+        putLegacy(2908, 2909, c0_0_15a_1);
+        putLegacy(2911, 2915, c0_0_15a_1);
+        putLegacy(2918, 2929, c0_0_15a_1);
+        putLegacy(2946, 2947, c0_0_15a_1);
+        putLegacy(2949, 2954, c0_0_15a_1);
+        putLegacy(2958, 2960, c0_0_15a_1);
+        putLegacy(2962, 2965, c0_0_15a_1);
+        putLegacy(2969, 2970, c0_0_15a_1);
+        putLegacy(2972, c0_0_15a_1);
+        putLegacy(2974, 2975, c0_0_15a_1);
+        putLegacy(2979, 2980, c0_0_15a_1);
+        putLegacy(2984, 2986, c0_0_15a_1);
+        putLegacy(2990, 3001, c0_0_15a_1);
+        putLegacy(3006, 3010, c0_0_15a_1);
+        putLegacy(3014, 3016, c0_0_15a_1);
+        putLegacy(3018, 3021, c0_0_15a_1);
+        putLegacy(3024, c0_0_15a_1);
+        putLegacy(3031, c0_0_15a_1);
+        putLegacy(3046, 3066, c0_0_15a_1);
+        putLegacy(3073, 3075, c0_0_15a_1);
+        putLegacy(3077, 3084, c0_0_15a_1);
+        putLegacy(3086, 3088, c0_0_15a_1);
+        putLegacy(3090, 3112, c0_0_15a_1);
+        putLegacy(3114, 3123, c0_0_15a_1);
+        putLegacy(3125, 3129, c0_0_15a_1);
+        putLegacy(3133, 3140, c0_0_15a_1);
+        putLegacy(3142, 3144, c0_0_15a_1);
+        putLegacy(3146, 3149, c0_0_15a_1);
+        putLegacy(3157, 3158, c0_0_15a_1);
+        putLegacy(3160, 3161, c0_0_15a_1);
+        putLegacy(3168, 3171, c0_0_15a_1);
+        putLegacy(3174, 3183, c0_0_15a_1);
+        putLegacy(3192, 3199, c0_0_15a_1);
+        putLegacy(3202, 3203, c0_0_15a_1);
+        putLegacy(3205, 3212, c0_0_15a_1);
+        putLegacy(3214, 3216, c0_0_15a_1);
+        putLegacy(3218, 3240, c0_0_15a_1);
+        putLegacy(3242, 3251, c0_0_15a_1);
+        putLegacy(3253, 3257, c0_0_15a_1);
+        putLegacy(3260, 3268, c0_0_15a_1);
+        putLegacy(3270, 3272, c0_0_15a_1);
+        putLegacy(3274, 3277, c0_0_15a_1);
+        putLegacy(3285, 3286, c0_0_15a_1);
+        putLegacy(3294, c0_0_15a_1);
+        putLegacy(3296, 3299, c0_0_15a_1);
+        putLegacy(3302, 3311, c0_0_15a_1);
+        putLegacy(3313, 3314, c0_0_15a_1);
+        putLegacy(3330, 3331, c0_0_15a_1);
+        putLegacy(3333, 3340, c0_0_15a_1);
+        putLegacy(3342, 3344, c0_0_15a_1);
+        putLegacy(3346, 3368, c0_0_15a_1);
+        putLegacy(3370, 3385, c0_0_15a_1);
+        putLegacy(3389, 3396, c0_0_15a_1);
+        putLegacy(3398, 3400, c0_0_15a_1);
+        putLegacy(3402, 3405, c0_0_15a_1);
+        putLegacy(3415, c0_0_15a_1);
+        putLegacy(3424, 3427, c0_0_15a_1);
+        putLegacy(3430, 3445, c0_0_15a_1);
+        putLegacy(3449, 3455, c0_0_15a_1);
+        putLegacy(3458, 3459, c0_0_15a_1);
+        putLegacy(3461, 3478, c0_0_15a_1);
+        putLegacy(3482, 3505, c0_0_15a_1);
+        putLegacy(3507, 3515, c0_0_15a_1);
+        putLegacy(3517, c0_0_15a_1);
+        putLegacy(3520, 3526, c0_0_15a_1);
+        putLegacy(3530, c0_0_15a_1);
+        putLegacy(3535, 3540, c0_0_15a_1);
+        putLegacy(3542, c0_0_15a_1);
+        putLegacy(3544, 3551, c0_0_15a_1);
+        putLegacy(3570, 3572, c0_0_15a_1);
+        putLegacy(3585, 3642, c0_0_15a_1);
+        putLegacy(3647, 3675, c0_0_15a_1);
+        putLegacy(3713, 3714, c0_0_15a_1);
+        putLegacy(3716, c0_0_15a_1);
+        putLegacy(3719, 3720, c0_0_15a_1);
+        putLegacy(3722, c0_0_15a_1);
+        putLegacy(3725, c0_0_15a_1);
+        putLegacy(3732, 3735, c0_0_15a_1);
+        putLegacy(3737, 3743, c0_0_15a_1);
+        putLegacy(3745, 3747, c0_0_15a_1);
+        putLegacy(3749, c0_0_15a_1);
+        putLegacy(3751, c0_0_15a_1);
+        putLegacy(3754, 3755, c0_0_15a_1);
+        putLegacy(3757, 3769, c0_0_15a_1);
+        putLegacy(3771, 3773, c0_0_15a_1);
+        putLegacy(3776, 3780, c0_0_15a_1);
+        putLegacy(3782, c0_0_15a_1);
+        putLegacy(3784, 3789, c0_0_15a_1);
+        putLegacy(3792, 3801, c0_0_15a_1);
+        putLegacy(3804, 3805, c0_0_15a_1);
+        putLegacy(3840, 3911, c0_0_15a_1);
+        putLegacy(3913, 3948, c0_0_15a_1);
+        putLegacy(3953, 3979, c0_0_15a_1);
+        putLegacy(3984, 3991, c0_0_15a_1);
+        putLegacy(3993, 4028, c0_0_15a_1);
+        putLegacy(4030, 4044, c0_0_15a_1);
+        putLegacy(4046, 4052, c0_0_15a_1);
+        putLegacy(4096, 4249, c0_0_15a_1);
+        putLegacy(4254, 4293, c0_0_15a_1);
+        putLegacy(4304, 4348, c0_0_15a_1);
+        putLegacy(4352, 4441, c0_0_15a_1);
+        putLegacy(4447, 4514, c0_0_15a_1);
+        putLegacy(4520, 4601, c0_0_15a_1);
+        putLegacy(4608, 4680, c0_0_15a_1);
+        putLegacy(4682, 4685, c0_0_15a_1);
+        putLegacy(4688, 4694, c0_0_15a_1);
+        putLegacy(4696, c0_0_15a_1);
+        putLegacy(4698, 4701, c0_0_15a_1);
+        putLegacy(4704, 4744, c0_0_15a_1);
+        putLegacy(4746, 4749, c0_0_15a_1);
+        putLegacy(4752, 4784, c0_0_15a_1);
+        putLegacy(4786, 4789, c0_0_15a_1);
+        putLegacy(4792, 4798, c0_0_15a_1);
+        putLegacy(4800, c0_0_15a_1);
+        putLegacy(4802, 4805, c0_0_15a_1);
+        putLegacy(4808, 4822, c0_0_15a_1);
+        putLegacy(4824, 4880, c0_0_15a_1);
+        putLegacy(4882, 4885, c0_0_15a_1);
+        putLegacy(4888, 4954, c0_0_15a_1);
+        putLegacy(4959, 4988, c0_0_15a_1);
+        putLegacy(4992, 5017, c0_0_15a_1);
+        putLegacy(5024, 5108, c0_0_15a_1);
+        putLegacy(5121, 5750, c0_0_15a_1);
+        putLegacy(5760, 5788, c0_0_15a_1);
+        putLegacy(5792, 5880, c0_0_15a_1);
+        putLegacy(5888, 5900, c0_0_15a_1);
+        putLegacy(5902, 5908, c0_0_15a_1);
+        putLegacy(5920, 5942, c0_0_15a_1);
+        putLegacy(5952, 5971, c0_0_15a_1);
+        putLegacy(5984, 5996, c0_0_15a_1);
+        putLegacy(5998, 6000, c0_0_15a_1);
+        putLegacy(6002, 6003, c0_0_15a_1);
+        putLegacy(6016, 6109, c0_0_15a_1);
+        putLegacy(6112, 6121, c0_0_15a_1);
+        putLegacy(6128, 6137, c0_0_15a_1);
+        putLegacy(6144, 6158, c0_0_15a_1);
+        putLegacy(6160, 6169, c0_0_15a_1);
+        putLegacy(6176, 6263, c0_0_15a_1);
+        putLegacy(6272, 6314, c0_0_15a_1);
+        putLegacy(6400, 6428, c0_0_15a_1);
+        putLegacy(6432, 6443, c0_0_15a_1);
+        putLegacy(6448, 6459, c0_0_15a_1);
+        putLegacy(6464, c0_0_15a_1);
+        putLegacy(6468, 6509, c0_0_15a_1);
+        putLegacy(6512, 6516, c0_0_15a_1);
+        putLegacy(6528, 6569, c0_0_15a_1);
+        putLegacy(6576, 6601, c0_0_15a_1);
+        putLegacy(6608, 6617, c0_0_15a_1);
+        putLegacy(6622, 6683, c0_0_15a_1);
+        putLegacy(6686, 6687, c0_0_15a_1);
+        putLegacy(6912, 6987, c0_0_15a_1);
+        putLegacy(6992, 7036, c0_0_15a_1);
+        putLegacy(7040, 7082, c0_0_15a_1);
+        putLegacy(7086, 7097, c0_0_15a_1);
+        putLegacy(7168, 7223, c0_0_15a_1);
+        putLegacy(7227, 7241, c0_0_15a_1);
+        putLegacy(7245, 7295, c0_0_15a_1);
+        putLegacy(7424, 7654, c0_0_15a_1);
+        putLegacy(7678, 7957, c0_0_15a_1);
+        putLegacy(7960, 7965, c0_0_15a_1);
+        putLegacy(7968, 8005, c0_0_15a_1);
+        putLegacy(8008, 8013, c0_0_15a_1);
+        putLegacy(8016, 8023, c0_0_15a_1);
+        putLegacy(8025, c0_0_15a_1);
+        putLegacy(8027, c0_0_15a_1);
+        putLegacy(8029, c0_0_15a_1);
+        putLegacy(8031, 8061, c0_0_15a_1);
+        putLegacy(8064, 8116, c0_0_15a_1);
+        putLegacy(8118, 8132, c0_0_15a_1);
+        putLegacy(8134, 8147, c0_0_15a_1);
+        putLegacy(8150, 8155, c0_0_15a_1);
+        putLegacy(8157, 8175, c0_0_15a_1);
+        putLegacy(8178, 8180, c0_0_15a_1);
+        putLegacy(8182, 8190, c0_0_15a_1);
+        putLegacy(8192, 8292, c0_0_15a_1);
+        putLegacy(8298, 8305, c0_0_15a_1);
+        putLegacy(8308, 8334, c0_0_15a_1);
+        putLegacy(8336, 8340, c0_0_15a_1);
+        putLegacy(8352, 8373, c0_0_15a_1);
+        putLegacy(8381, c0_0_15a_1);
+        putLegacy(8400, 8432, c0_0_15a_1);
+        putLegacy(8448, 8527, c0_0_15a_1);
+        putLegacy(8531, 8584, c0_0_15a_1);
+        putLegacy(8592, 9143, c0_0_15a_1);
+        putLegacy(9145, 9191, c0_0_15a_1);
+        putLegacy(9193, 9194, c0_0_15a_1);
+        putLegacy(9197, 9199, c0_0_15a_1);
+        putLegacy(9204, 9213, c0_0_15a_1);
+        putLegacy(9216, 9254, c0_0_15a_1);
+        putLegacy(9280, 9290, c0_0_15a_1);
+        putLegacy(9312, 9885, c0_0_15a_1);
+        putLegacy(9888, 9916, c0_0_15a_1);
+        putLegacy(9920, 9923, c0_0_15a_1);
+        putLegacy(9935, c0_0_15a_1);
+        putLegacy(9960, c0_0_15a_1);
+        putLegacy(9985, 9988, c0_0_15a_1);
+        putLegacy(9990, 9993, c0_0_15a_1);
+        putLegacy(9996, 10023, c0_0_15a_1);
+        putLegacy(10025, 10061, c0_0_15a_1);
+        putLegacy(10063, 10066, c0_0_15a_1);
+        putLegacy(10070, c0_0_15a_1);
+        putLegacy(10072, 10078, c0_0_15a_1);
+        putLegacy(10081, 10132, c0_0_15a_1);
+        putLegacy(10136, 10159, c0_0_15a_1);
+        putLegacy(10161, 10174, c0_0_15a_1);
+        putLegacy(10176, 10186, c0_0_15a_1);
+        putLegacy(10188, c0_0_15a_1);
+        putLegacy(10192, 11084, c0_0_15a_1);
+        putLegacy(11088, 11092, c0_0_15a_1);
+        putLegacy(11096, c0_0_15a_1);
+        putLegacy(11264, 11310, c0_0_15a_1);
+        putLegacy(11312, 11358, c0_0_15a_1);
+        putLegacy(11360, 11375, c0_0_15a_1);
+        putLegacy(11377, 11389, c0_0_15a_1);
+        putLegacy(11392, 11498, c0_0_15a_1);
+        putLegacy(11513, 11557, c0_0_15a_1);
+        putLegacy(11568, 11621, c0_0_15a_1);
+        putLegacy(11631, c0_0_15a_1);
+        putLegacy(11648, 11670, c0_0_15a_1);
+        putLegacy(11680, 11686, c0_0_15a_1);
+        putLegacy(11688, 11694, c0_0_15a_1);
+        putLegacy(11696, 11702, c0_0_15a_1);
+        putLegacy(11704, 11710, c0_0_15a_1);
+        putLegacy(11712, 11718, c0_0_15a_1);
+        putLegacy(11720, 11726, c0_0_15a_1);
+        putLegacy(11728, 11734, c0_0_15a_1);
+        putLegacy(11736, 11742, c0_0_15a_1);
+        putLegacy(11744, 11824, c0_0_15a_1);
+        putLegacy(11829, c0_0_15a_1);
+        putLegacy(11832, c0_0_15a_1);
+        putLegacy(11841, c0_0_15a_1);
+        putLegacy(11851, c0_0_15a_1);
+        putLegacy(11904, 11929, c0_0_15a_1);
+        putLegacy(11931, 12019, c0_0_15a_1);
+        putLegacy(12032, 12245, c0_0_15a_1);
+        putLegacy(12272, 12283, c0_0_15a_1);
+        putLegacy(12288, 12351, c0_0_15a_1);
+        putLegacy(12353, 12438, c0_0_15a_1);
+        putLegacy(12441, 12543, c0_0_15a_1);
+        putLegacy(12549, 12589, c0_0_15a_1);
+        putLegacy(12593, 12686, c0_0_15a_1);
+        putLegacy(12688, 12727, c0_0_15a_1);
+        putLegacy(12736, 12771, c0_0_15a_1);
+        putLegacy(12784, 12830, c0_0_15a_1);
+        putLegacy(12832, 12867, c0_0_15a_1);
+        putLegacy(12880, 13054, c0_0_15a_1);
+        putLegacy(13056, 19893, c0_0_15a_1);
+        putLegacy(19904, 40899, c0_0_15a_1);
+        putLegacy(40960, 42124, c0_0_15a_1);
+        putLegacy(42128, 42182, c0_0_15a_1);
+        putLegacy(42240, 42539, c0_0_15a_1);
+        putLegacy(42560, 42591, c0_0_15a_1);
+        putLegacy(42594, 42611, c0_0_15a_1);
+        putLegacy(42620, 42647, c0_0_15a_1);
+        putLegacy(42752, 42892, c0_0_15a_1);
+        putLegacy(42928, c0_0_15a_1);
+        putLegacy(43003, 43051, c0_0_15a_1);
+        putLegacy(43072, 43127, c0_0_15a_1);
+        putLegacy(43136, 43204, c0_0_15a_1);
+        putLegacy(43214, 43225, c0_0_15a_1);
+        putLegacy(43264, 43347, c0_0_15a_1);
+        putLegacy(43359, c0_0_15a_1);
+        putLegacy(43520, 43574, c0_0_15a_1);
+        putLegacy(43584, 43597, c0_0_15a_1);
+        putLegacy(43600, 43609, c0_0_15a_1);
+        putLegacy(43612, 43615, c0_0_15a_1);
+        putLegacy(44032, 55203, c0_0_15a_1);
+        putLegacy(63744, 64045, c0_0_15a_1);
+        putLegacy(64048, 64106, c0_0_15a_1);
+        putLegacy(64112, 64217, c0_0_15a_1);
+        putLegacy(64256, 64262, c0_0_15a_1);
+        putLegacy(64275, 64279, c0_0_15a_1);
+        putLegacy(64285, 64310, c0_0_15a_1);
+        putLegacy(64312, 64316, c0_0_15a_1);
+        putLegacy(64318, c0_0_15a_1);
+        putLegacy(64320, 64321, c0_0_15a_1);
+        putLegacy(64323, 64324, c0_0_15a_1);
+        putLegacy(64326, 64433, c0_0_15a_1);
+        putLegacy(64467, 64831, c0_0_15a_1);
+        putLegacy(64848, 64911, c0_0_15a_1);
+        putLegacy(64914, 64967, c0_0_15a_1);
+        putLegacy(64976, 65021, c0_0_15a_1);
+        putLegacy(65024, 65049, c0_0_15a_1);
+        putLegacy(65056, 65062, c0_0_15a_1);
+        putLegacy(65072, 65106, c0_0_15a_1);
+        putLegacy(65108, 65126, c0_0_15a_1);
+        putLegacy(65128, 65131, c0_0_15a_1);
+        putLegacy(65136, 65140, c0_0_15a_1);
+        putLegacy(65142, 65276, c0_0_15a_1);
+        putLegacy(65279, c0_0_15a_1);
+        putLegacy(65281, 65470, c0_0_15a_1);
+        putLegacy(65474, 65479, c0_0_15a_1);
+        putLegacy(65482, 65487, c0_0_15a_1);
+        putLegacy(65490, 65495, c0_0_15a_1);
+        putLegacy(65498, 65500, c0_0_15a_1);
+        putLegacy(65504, 65510, c0_0_15a_1);
+        putLegacy(65512, 65518, c0_0_15a_1);
+        putLegacy(65529, 65535, c0_0_15a_1);
 
-        rangeClosed(1316, 1327).forEach(putLegacy(v1_16));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(4295, v1_16);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(4301, v1_16);
-        rangeClosed(4349, 4351).forEach(putLegacy(v1_16));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8382, v1_16);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(9924, v1_16);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(9928, v1_16);
-        rangeClosed(11390, 11391).forEach(putLegacy(v1_16));
-        rangeClosed(42900, 42901).forEach(putLegacy(v1_16));
-        rangeClosed(42920, 42921).forEach(putLegacy(v1_16));
-        rangeClosed(42927, 42927).forEach(putLegacy(v1_16));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(42948, v1_16);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(42950, v1_16);
-        rangeClosed(43856, 43857).forEach(putLegacy(v1_16));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(43875, v1_16);
-        rangeClosed(66352, 66378).forEach(putLegacy(v1_16));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(127754, v1_16);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(127783, v1_16);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(128293, v1_16);
+        putLegacy(1316, 1327, v1_16);
+        putLegacy(4295, v1_16);
+        putLegacy(4301, v1_16);
+        putLegacy(4349, 4351, v1_16);
+        putLegacy(8382, v1_16);
+        putLegacy(9924, v1_16);
+        putLegacy(9928, v1_16);
+        putLegacy(11390, 11391, v1_16);
+        putLegacy(42900, 42901, v1_16);
+        putLegacy(42920, 42921, v1_16);
+        putLegacy(42927, 42927, v1_16);
+        putLegacy(42948, v1_16);
+        putLegacy(42950, v1_16);
+        putLegacy(43856, 43857, v1_16);
+        putLegacy(43875, v1_16);
+        putLegacy(66352, 66378, v1_16);
+        putLegacy(127754, v1_16);
+        putLegacy(127783, v1_16);
+        putLegacy(128293, v1_16);
 
-        rangeClosed(8528, 8530).forEach(putLegacy(v1_16_2));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8585, v1_16_2);
-        rangeClosed(11242, 11243).forEach(putLegacy(v1_16_2));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(127907, v1_16_2);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(127993, v1_16_2);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(128305, v1_16_2);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(128481, v1_16_2);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(128737, v1_16_2);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(129514, v1_16_2);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(129683, v1_16_2);
+        putLegacy(8528, 8530, v1_16_2);
+        putLegacy(8585, v1_16_2);
+        putLegacy(11242, 11243, v1_16_2);
+        putLegacy(127907, v1_16_2);
+        putLegacy(127993, v1_16_2);
+        putLegacy(128305, v1_16_2);
+        putLegacy(128481, v1_16_2);
+        putLegacy(128737, v1_16_2);
+        putLegacy(129514, v1_16_2);
+        putLegacy(129683, v1_16_2);
 
-        rangeClosed(8374, 8380).forEach(putLegacy(v1_17_1));
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(8383, v1_17_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(9203, v1_17_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(127830, v1_17_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(128276, v1_17_1);
-        RENDERABLE_GLYPH_DIFF_LEGACY.put(129699, v1_17_1);
+        putLegacy(8374, 8380, v1_17_1);
+        putLegacy(8383, v1_17_1);
+        putLegacy(9203, v1_17_1);
+        putLegacy(127830, v1_17_1);
+        putLegacy(128276, v1_17_1);
+        putLegacy(129699, v1_17_1);
 
         // 1.20 switched to using Unihex as a main font
 
-        rangeClosed(0, 2559).forEach(put(v1_20));
-        rangeClosed(2561, 55295).forEach(put(v1_20));
-        rangeClosed(61425, 61426).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(61429, v1_20);
-        rangeClosed(63744, 65533).forEach(put(v1_20));
-        rangeClosed(65536, 72543).forEach(put(v1_20));
-        rangeClosed(72704, 73727).forEach(put(v1_20));
-        rangeClosed(74650, 74751).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(74863, v1_20);
-        rangeClosed(74869, 74879).forEach(put(v1_20));
-        rangeClosed(75076, 77823).forEach(put(v1_20));
-        rangeClosed(78895, 82943).forEach(put(v1_20));
-        rangeClosed(83527, 92159).forEach(put(v1_20));
-        rangeClosed(92729, 94207).forEach(put(v1_20));
-        rangeClosed(100344, 100351).forEach(put(v1_20));
-        rangeClosed(101120, 101631).forEach(put(v1_20));
-        rangeClosed(101641, 128124).forEach(put(v1_20));
-        rangeClosed(128126, 131069).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(131083, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131207, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131209, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131234, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131236, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131276, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131428, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131490, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131603, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131883, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131953, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(131969, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132089, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132170, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132361, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132566, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132648, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132726, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(132943, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133127, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133178, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133305, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133500, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133533, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133843, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(133917, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134047, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134352, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134469, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134625, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134756, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134765, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(134805, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135007, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135359, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135681, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135741, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135765, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135796, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135803, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135895, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135908, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135933, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135963, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(135990, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136004, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136090, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136132, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136211, v1_20);
-        rangeClosed(136301, 136302).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(136663, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136775, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136884, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(136966, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(137026, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(137405, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(137667, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138326, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138541, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138565, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138594, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138616, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138642, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138652, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138657, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138679, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(138720, v1_20);
-        rangeClosed(138803, 138804).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(139038, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(139126, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(139258, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(139643, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(139800, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(140062, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(140205, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(141043, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(141403, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(141483, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(141711, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(142008, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(142150, v1_20);
-        rangeClosed(142159, 142160).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(142246, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(142365, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(142372, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(142817, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(143798, v1_20);
-        rangeClosed(143811, 143812).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(143861, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144242, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144336, v1_20);
-        rangeClosed(144338, 144339).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(144341, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144346, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144351, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144356, v1_20);
-        rangeClosed(144458, 144459).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(144465, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144485, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144612, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144730, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144788, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144836, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(144843, v1_20);
-        rangeClosed(144952, 144954).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(144967, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(145164, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(145180, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(145215, v1_20);
-        rangeClosed(145251, 145252).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(145383, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(145407, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(145444, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(145469, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(146072, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(146559, v1_20);
-        rangeClosed(146583, 146584).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(146686, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(146688, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(146702, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(146752, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(146899, v1_20);
-        rangeClosed(146937, 146938).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(146979, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(147326, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(147606, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(147715, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(147910, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(147966, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(147982, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(148412, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(149033, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(149157, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(149489, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(149654, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(149737, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(149979, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150017, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150093, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150141, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150217, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150358, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150383, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150550, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(150804, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151054, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151095, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151146, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151179, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151626, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151637, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151842, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(151977, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152013, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152037, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152094, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152140, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152622, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152718, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152793, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152846, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152882, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(152930, v1_20);
-        rangeClosed(152999, 153000).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(153457, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(153513, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(153524, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(154052, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(154068, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(154327, v1_20);
-        rangeClosed(154339, 154340).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(154353, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(154546, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(154699, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(154724, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155041, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155182, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155209, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155222, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155234, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155237, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155330, v1_20);
-        rangeClosed(155351, 155352).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(155368, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155427, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155484, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155604, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155616, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155643, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155660, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155671, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155744, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(155885, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(156193, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(156272, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(156294, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(156492, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(156674, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(156813, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157302, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157310, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157360, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157469, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157564, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157917, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(157930, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158033, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158063, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158173, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158238, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158296, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158348, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158391, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158463, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158556, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158753, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158761, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158835, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(158941, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(159296, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(159333, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(159636, v1_20);
-        rangeClosed(159734, 159736).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(159988, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(160013, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(160057, v1_20);
-        rangeClosed(160730, 160731).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(160766, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(160784, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(160841, v1_20);
-        rangeClosed(161300, 161301).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(161329, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(161412, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(161427, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(161550, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(161571, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(161618, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(161970, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(162181, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(162436, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(162739, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(162750, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(162759, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163000, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163232, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163344, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163503, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163767, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163833, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(163978, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164027, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164471, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164482, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164595, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164813, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164872, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164876, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(164949, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(165227, v1_20);
-        rangeClosed(165320, 165321).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(165496, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(165525, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(165591, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(165626, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(165856, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166214, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166217, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166251, v1_20);
-        rangeClosed(166279, 166280).forEach(put(v1_20));
-        rangeClosed(166330, 166331).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(166336, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166415, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166430, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166441, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166467, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166513, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166553, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166605, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166621, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166628, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166726, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166729, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166734, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166849, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166895, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166983, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166991, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166993, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(166996, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167184, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167281, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167419, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167439, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167455, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167478, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167561, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167577, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167659, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167730, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(167928, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(168608, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(168625, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(169104, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(169423, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(169599, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(169712, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(169753, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(169808, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(170000, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(170182, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(170610, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171477, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171483, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171541, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171581, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171593, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171658, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171716, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171739, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171753, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171902, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171907, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171916, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(171982, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(172058, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(172079, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(172162, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(172281, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(172432, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(172940, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(173111, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(173553, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(173570, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(173594, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(173746, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174045, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174141, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174331, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174359, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174640, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174646, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(174680, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(176034, v1_20);
-        rangeClosed(176423, 176424).forEach(put(v1_20));
-        rangeClosed(176439, 176440).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(176621, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(176896, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(176995, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177007, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177010, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177021, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177156, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177168, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177171, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177249, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177383, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177391, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177398, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177401, v1_20);
-        rangeClosed(177421, 177422).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(177462, v1_20);
-        rangeClosed(177582, 177583).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(177587, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177639, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177652, v1_20);
-        rangeClosed(177692, 177693).forEach(put(v1_20));
-        rangeClosed(177702, 177704).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(177706, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177708, v1_20);
-        rangeClosed(177813, 177814).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(177837, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(177901, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178089, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178117, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178150, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178167, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178169, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178172, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178182, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178186, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178204, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178360, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178840, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(178887, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179039, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179042, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179068, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179075, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179227, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179575, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179591, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179703, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(179753, v1_20);
-        rangeClosed(180265, 180266).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(180393, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180426, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180693, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180697, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180729, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180860, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180872, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(180900, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181015, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181083, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181089, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181092, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181384, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181396, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181399, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181570, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181643, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181779, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181784, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181793, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181801, v1_20);
-        rangeClosed(181803, 181805).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(181807, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(181826, v1_20);
-        rangeClosed(181834, 181835).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(182060, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182063, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182175, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182209, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182252, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182269, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182489, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182494, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182497, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182515, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182535, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182538, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182557, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182786, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182798, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182909, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182953, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(182994, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183081, v1_20);
-        rangeClosed(183085, 183086).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183089, v1_20);
-        rangeClosed(183096, 183097).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183099, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183103, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183105, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183114, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183118, v1_20);
-        rangeClosed(183130, 183131).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183140, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183145, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183148, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183151, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183155, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183158, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183160, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183164, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183217, v1_20);
-        rangeClosed(183231, 183232).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183246, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183382, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183391, v1_20);
-        rangeClosed(183541, 183542).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183549, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183551, v1_20);
-        rangeClosed(183554, 183555).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183562, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183688, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183691, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183693, v1_20);
-        rangeClosed(183695, 183696).forEach(put(v1_20));
-        rangeClosed(183711, 183712).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183720, v1_20);
-        rangeClosed(183725, 183726).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(183765, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183832, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183834, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183843, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183846, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183850, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183932, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183944, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(183955, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(185218, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(185668, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(194692, v1_20);
-        RENDERABLE_GLYPH_DIFF.put(194742, v1_20);
-        rangeClosed(200413, 200414).forEach(put(v1_20));
-        RENDERABLE_GLYPH_DIFF.put(200812, v1_20);
-        rangeClosed(917504, 917631).forEach(put(v1_20));
-        rangeClosed(917760, 917999).forEach(put(v1_20));
-        rangeClosed(1048574, 1048575).forEach(put(v1_20));
+        put(0, 2559, v1_20);
+        put(2561, 55295, v1_20);
+        put(61425, 61426, v1_20);
+        put(61429, v1_20);
+        put(63744, 65533, v1_20);
+        put(65536, 72543, v1_20);
+        put(72704, 73727, v1_20);
+        put(74650, 74751, v1_20);
+        put(74863, v1_20);
+        put(74869, 74879, v1_20);
+        put(75076, 77823, v1_20);
+        put(78895, 82943, v1_20);
+        put(83527, 92159, v1_20);
+        put(92729, 94207, v1_20);
+        put(100344, 100351, v1_20);
+        put(101120, 101631, v1_20);
+        put(101641, 128124, v1_20);
+        put(128126, 131069, v1_20);
+        put(131083, v1_20);
+        put(131207, v1_20);
+        put(131209, v1_20);
+        put(131234, v1_20);
+        put(131236, v1_20);
+        put(131276, v1_20);
+        put(131428, v1_20);
+        put(131490, v1_20);
+        put(131603, v1_20);
+        put(131883, v1_20);
+        put(131953, v1_20);
+        put(131969, v1_20);
+        put(132089, v1_20);
+        put(132170, v1_20);
+        put(132361, v1_20);
+        put(132566, v1_20);
+        put(132648, v1_20);
+        put(132726, v1_20);
+        put(132943, v1_20);
+        put(133127, v1_20);
+        put(133178, v1_20);
+        put(133305, v1_20);
+        put(133500, v1_20);
+        put(133533, v1_20);
+        put(133843, v1_20);
+        put(133917, v1_20);
+        put(134047, v1_20);
+        put(134352, v1_20);
+        put(134469, v1_20);
+        put(134625, v1_20);
+        put(134756, v1_20);
+        put(134765, v1_20);
+        put(134805, v1_20);
+        put(135007, v1_20);
+        put(135359, v1_20);
+        put(135681, v1_20);
+        put(135741, v1_20);
+        put(135765, v1_20);
+        put(135796, v1_20);
+        put(135803, v1_20);
+        put(135895, v1_20);
+        put(135908, v1_20);
+        put(135933, v1_20);
+        put(135963, v1_20);
+        put(135990, v1_20);
+        put(136004, v1_20);
+        put(136090, v1_20);
+        put(136132, v1_20);
+        put(136211, v1_20);
+        put(136301, 136302, v1_20);
+        put(136663, v1_20);
+        put(136775, v1_20);
+        put(136884, v1_20);
+        put(136966, v1_20);
+        put(137026, v1_20);
+        put(137405, v1_20);
+        put(137667, v1_20);
+        put(138326, v1_20);
+        put(138541, v1_20);
+        put(138565, v1_20);
+        put(138594, v1_20);
+        put(138616, v1_20);
+        put(138642, v1_20);
+        put(138652, v1_20);
+        put(138657, v1_20);
+        put(138679, v1_20);
+        put(138720, v1_20);
+        put(138803, 138804, v1_20);
+        put(139038, v1_20);
+        put(139126, v1_20);
+        put(139258, v1_20);
+        put(139643, v1_20);
+        put(139800, v1_20);
+        put(140062, v1_20);
+        put(140205, v1_20);
+        put(141043, v1_20);
+        put(141403, v1_20);
+        put(141483, v1_20);
+        put(141711, v1_20);
+        put(142008, v1_20);
+        put(142150, v1_20);
+        put(142159, 142160, v1_20);
+        put(142246, v1_20);
+        put(142365, v1_20);
+        put(142372, v1_20);
+        put(142817, v1_20);
+        put(143798, v1_20);
+        put(143811, 143812, v1_20);
+        put(143861, v1_20);
+        put(144242, v1_20);
+        put(144336, v1_20);
+        put(144338, 144339, v1_20);
+        put(144341, v1_20);
+        put(144346, v1_20);
+        put(144351, v1_20);
+        put(144356, v1_20);
+        put(144458, 144459, v1_20);
+        put(144465, v1_20);
+        put(144485, v1_20);
+        put(144612, v1_20);
+        put(144730, v1_20);
+        put(144788, v1_20);
+        put(144836, v1_20);
+        put(144843, v1_20);
+        put(144952, 144954, v1_20);
+        put(144967, v1_20);
+        put(145164, v1_20);
+        put(145180, v1_20);
+        put(145215, v1_20);
+        put(145251, 145252, v1_20);
+        put(145383, v1_20);
+        put(145407, v1_20);
+        put(145444, v1_20);
+        put(145469, v1_20);
+        put(146072, v1_20);
+        put(146559, v1_20);
+        put(146583, 146584, v1_20);
+        put(146686, v1_20);
+        put(146688, v1_20);
+        put(146702, v1_20);
+        put(146752, v1_20);
+        put(146899, v1_20);
+        put(146937, 146938, v1_20);
+        put(146979, v1_20);
+        put(147326, v1_20);
+        put(147606, v1_20);
+        put(147715, v1_20);
+        put(147910, v1_20);
+        put(147966, v1_20);
+        put(147982, v1_20);
+        put(148412, v1_20);
+        put(149033, v1_20);
+        put(149157, v1_20);
+        put(149489, v1_20);
+        put(149654, v1_20);
+        put(149737, v1_20);
+        put(149979, v1_20);
+        put(150017, v1_20);
+        put(150093, v1_20);
+        put(150141, v1_20);
+        put(150217, v1_20);
+        put(150358, v1_20);
+        put(150383, v1_20);
+        put(150550, v1_20);
+        put(150804, v1_20);
+        put(151054, v1_20);
+        put(151095, v1_20);
+        put(151146, v1_20);
+        put(151179, v1_20);
+        put(151626, v1_20);
+        put(151637, v1_20);
+        put(151842, v1_20);
+        put(151977, v1_20);
+        put(152013, v1_20);
+        put(152037, v1_20);
+        put(152094, v1_20);
+        put(152140, v1_20);
+        put(152622, v1_20);
+        put(152718, v1_20);
+        put(152793, v1_20);
+        put(152846, v1_20);
+        put(152882, v1_20);
+        put(152930, v1_20);
+        put(152999, 153000, v1_20);
+        put(153457, v1_20);
+        put(153513, v1_20);
+        put(153524, v1_20);
+        put(154052, v1_20);
+        put(154068, v1_20);
+        put(154327, v1_20);
+        put(154339, 154340, v1_20);
+        put(154353, v1_20);
+        put(154546, v1_20);
+        put(154699, v1_20);
+        put(154724, v1_20);
+        put(155041, v1_20);
+        put(155182, v1_20);
+        put(155209, v1_20);
+        put(155222, v1_20);
+        put(155234, v1_20);
+        put(155237, v1_20);
+        put(155330, v1_20);
+        put(155351, 155352, v1_20);
+        put(155368, v1_20);
+        put(155427, v1_20);
+        put(155484, v1_20);
+        put(155604, v1_20);
+        put(155616, v1_20);
+        put(155643, v1_20);
+        put(155660, v1_20);
+        put(155671, v1_20);
+        put(155744, v1_20);
+        put(155885, v1_20);
+        put(156193, v1_20);
+        put(156272, v1_20);
+        put(156294, v1_20);
+        put(156492, v1_20);
+        put(156674, v1_20);
+        put(156813, v1_20);
+        put(157302, v1_20);
+        put(157310, v1_20);
+        put(157360, v1_20);
+        put(157469, v1_20);
+        put(157564, v1_20);
+        put(157917, v1_20);
+        put(157930, v1_20);
+        put(158033, v1_20);
+        put(158063, v1_20);
+        put(158173, v1_20);
+        put(158238, v1_20);
+        put(158296, v1_20);
+        put(158348, v1_20);
+        put(158391, v1_20);
+        put(158463, v1_20);
+        put(158556, v1_20);
+        put(158753, v1_20);
+        put(158761, v1_20);
+        put(158835, v1_20);
+        put(158941, v1_20);
+        put(159296, v1_20);
+        put(159333, v1_20);
+        put(159636, v1_20);
+        put(159734, 159736, v1_20);
+        put(159988, v1_20);
+        put(160013, v1_20);
+        put(160057, v1_20);
+        put(160730, 160731, v1_20);
+        put(160766, v1_20);
+        put(160784, v1_20);
+        put(160841, v1_20);
+        put(161300, 161301, v1_20);
+        put(161329, v1_20);
+        put(161412, v1_20);
+        put(161427, v1_20);
+        put(161550, v1_20);
+        put(161571, v1_20);
+        put(161618, v1_20);
+        put(161970, v1_20);
+        put(162181, v1_20);
+        put(162436, v1_20);
+        put(162739, v1_20);
+        put(162750, v1_20);
+        put(162759, v1_20);
+        put(163000, v1_20);
+        put(163232, v1_20);
+        put(163344, v1_20);
+        put(163503, v1_20);
+        put(163767, v1_20);
+        put(163833, v1_20);
+        put(163978, v1_20);
+        put(164027, v1_20);
+        put(164471, v1_20);
+        put(164482, v1_20);
+        put(164595, v1_20);
+        put(164813, v1_20);
+        put(164872, v1_20);
+        put(164876, v1_20);
+        put(164949, v1_20);
+        put(165227, v1_20);
+        put(165320, 165321, v1_20);
+        put(165496, v1_20);
+        put(165525, v1_20);
+        put(165591, v1_20);
+        put(165626, v1_20);
+        put(165856, v1_20);
+        put(166214, v1_20);
+        put(166217, v1_20);
+        put(166251, v1_20);
+        put(166279, 166280, v1_20);
+        put(166330, 166331, v1_20);
+        put(166336, v1_20);
+        put(166415, v1_20);
+        put(166430, v1_20);
+        put(166441, v1_20);
+        put(166467, v1_20);
+        put(166513, v1_20);
+        put(166553, v1_20);
+        put(166605, v1_20);
+        put(166621, v1_20);
+        put(166628, v1_20);
+        put(166726, v1_20);
+        put(166729, v1_20);
+        put(166734, v1_20);
+        put(166849, v1_20);
+        put(166895, v1_20);
+        put(166983, v1_20);
+        put(166991, v1_20);
+        put(166993, v1_20);
+        put(166996, v1_20);
+        put(167184, v1_20);
+        put(167281, v1_20);
+        put(167419, v1_20);
+        put(167439, v1_20);
+        put(167455, v1_20);
+        put(167478, v1_20);
+        put(167561, v1_20);
+        put(167577, v1_20);
+        put(167659, v1_20);
+        put(167730, v1_20);
+        put(167928, v1_20);
+        put(168608, v1_20);
+        put(168625, v1_20);
+        put(169104, v1_20);
+        put(169423, v1_20);
+        put(169599, v1_20);
+        put(169712, v1_20);
+        put(169753, v1_20);
+        put(169808, v1_20);
+        put(170000, v1_20);
+        put(170182, v1_20);
+        put(170610, v1_20);
+        put(171477, v1_20);
+        put(171483, v1_20);
+        put(171541, v1_20);
+        put(171581, v1_20);
+        put(171593, v1_20);
+        put(171658, v1_20);
+        put(171716, v1_20);
+        put(171739, v1_20);
+        put(171753, v1_20);
+        put(171902, v1_20);
+        put(171907, v1_20);
+        put(171916, v1_20);
+        put(171982, v1_20);
+        put(172058, v1_20);
+        put(172079, v1_20);
+        put(172162, v1_20);
+        put(172281, v1_20);
+        put(172432, v1_20);
+        put(172940, v1_20);
+        put(173111, v1_20);
+        put(173553, v1_20);
+        put(173570, v1_20);
+        put(173594, v1_20);
+        put(173746, v1_20);
+        put(174045, v1_20);
+        put(174141, v1_20);
+        put(174331, v1_20);
+        put(174359, v1_20);
+        put(174640, v1_20);
+        put(174646, v1_20);
+        put(174680, v1_20);
+        put(176034, v1_20);
+        put(176423, 176424, v1_20);
+        put(176439, 176440, v1_20);
+        put(176621, v1_20);
+        put(176896, v1_20);
+        put(176995, v1_20);
+        put(177007, v1_20);
+        put(177010, v1_20);
+        put(177021, v1_20);
+        put(177156, v1_20);
+        put(177168, v1_20);
+        put(177171, v1_20);
+        put(177249, v1_20);
+        put(177383, v1_20);
+        put(177391, v1_20);
+        put(177398, v1_20);
+        put(177401, v1_20);
+        put(177421, 177422, v1_20);
+        put(177462, v1_20);
+        put(177582, 177583, v1_20);
+        put(177587, v1_20);
+        put(177639, v1_20);
+        put(177652, v1_20);
+        put(177692, 177693, v1_20);
+        put(177702, 177704, v1_20);
+        put(177706, v1_20);
+        put(177708, v1_20);
+        put(177813, 177814, v1_20);
+        put(177837, v1_20);
+        put(177901, v1_20);
+        put(178089, v1_20);
+        put(178117, v1_20);
+        put(178150, v1_20);
+        put(178167, v1_20);
+        put(178169, v1_20);
+        put(178172, v1_20);
+        put(178182, v1_20);
+        put(178186, v1_20);
+        put(178204, v1_20);
+        put(178360, v1_20);
+        put(178840, v1_20);
+        put(178887, v1_20);
+        put(179039, v1_20);
+        put(179042, v1_20);
+        put(179068, v1_20);
+        put(179075, v1_20);
+        put(179227, v1_20);
+        put(179575, v1_20);
+        put(179591, v1_20);
+        put(179703, v1_20);
+        put(179753, v1_20);
+        put(180265, 180266, v1_20);
+        put(180393, v1_20);
+        put(180426, v1_20);
+        put(180693, v1_20);
+        put(180697, v1_20);
+        put(180729, v1_20);
+        put(180860, v1_20);
+        put(180872, v1_20);
+        put(180900, v1_20);
+        put(181015, v1_20);
+        put(181083, v1_20);
+        put(181089, v1_20);
+        put(181092, v1_20);
+        put(181384, v1_20);
+        put(181396, v1_20);
+        put(181399, v1_20);
+        put(181570, v1_20);
+        put(181643, v1_20);
+        put(181779, v1_20);
+        put(181784, v1_20);
+        put(181793, v1_20);
+        put(181801, v1_20);
+        put(181803, 181805, v1_20);
+        put(181807, v1_20);
+        put(181826, v1_20);
+        put(181834, 181835, v1_20);
+        put(182060, v1_20);
+        put(182063, v1_20);
+        put(182175, v1_20);
+        put(182209, v1_20);
+        put(182252, v1_20);
+        put(182269, v1_20);
+        put(182489, v1_20);
+        put(182494, v1_20);
+        put(182497, v1_20);
+        put(182515, v1_20);
+        put(182535, v1_20);
+        put(182538, v1_20);
+        put(182557, v1_20);
+        put(182786, v1_20);
+        put(182798, v1_20);
+        put(182909, v1_20);
+        put(182953, v1_20);
+        put(182994, v1_20);
+        put(183081, v1_20);
+        put(183085, 183086, v1_20);
+        put(183089, v1_20);
+        put(183096, 183097, v1_20);
+        put(183099, v1_20);
+        put(183103, v1_20);
+        put(183105, v1_20);
+        put(183114, v1_20);
+        put(183118, v1_20);
+        put(183130, 183131, v1_20);
+        put(183140, v1_20);
+        put(183145, v1_20);
+        put(183148, v1_20);
+        put(183151, v1_20);
+        put(183155, v1_20);
+        put(183158, v1_20);
+        put(183160, v1_20);
+        put(183164, v1_20);
+        put(183217, v1_20);
+        put(183231, 183232, v1_20);
+        put(183246, v1_20);
+        put(183382, v1_20);
+        put(183391, v1_20);
+        put(183541, 183542, v1_20);
+        put(183549, v1_20);
+        put(183551, v1_20);
+        put(183554, 183555, v1_20);
+        put(183562, v1_20);
+        put(183688, v1_20);
+        put(183691, v1_20);
+        put(183693, v1_20);
+        put(183695, 183696, v1_20);
+        put(183711, 183712, v1_20);
+        put(183720, v1_20);
+        put(183725, 183726, v1_20);
+        put(183765, v1_20);
+        put(183832, v1_20);
+        put(183834, v1_20);
+        put(183843, v1_20);
+        put(183846, v1_20);
+        put(183850, v1_20);
+        put(183932, v1_20);
+        put(183944, v1_20);
+        put(183955, v1_20);
+        put(185218, v1_20);
+        put(185668, v1_20);
+        put(194692, v1_20);
+        put(194742, v1_20);
+        put(200413, 200414, v1_20);
+        put(200812, v1_20);
+        put(917504, 917631, v1_20);
+        put(917760, 917999, v1_20);
+        put(1048574, 1048575, v1_20);
     }
 
     /**
@@ -979,19 +983,73 @@ public final class RenderableGlyphDiff {
     public static boolean isGlyphRenderable(final int codePoint) {
         final ProtocolVersion targetVersion = ViaFabricPlus.getImpl().getTargetVersion();
 
+        CompiledGlyphs glyphs = compiledGlyphs;
+        if (glyphs == null || glyphs.version != targetVersion) {
+            glyphs = compiledGlyphs = compile(targetVersion);
+        }
+        return glyphs.renderable.get(codePoint);
+    }
+
+    private static CompiledGlyphs compile(final ProtocolVersion targetVersion) {
+        final BitSet renderable = new BitSet(Character.MAX_CODE_POINT + 1);
         if (targetVersion.newerThanOrEqualTo(v1_20)) { // 1.20 switched to using Unihex as a main font
-            return !RENDERABLE_GLYPH_DIFF.containsKey(codePoint) || targetVersion.newerThanOrEqualTo(RENDERABLE_GLYPH_DIFF.get(codePoint));
+            renderable.set(0, Character.MAX_CODE_POINT + 1);
+            for (int i = 0; i < RENDERABLE_GLYPH_DIFF.size; i++) {
+                if (targetVersion.olderThan(RENDERABLE_GLYPH_DIFF.versions[i])) {
+                    renderable.clear(RENDERABLE_GLYPH_DIFF.starts[i], RENDERABLE_GLYPH_DIFF.ends[i] + 1);
+                }
+            }
         } else {
-            return RENDERABLE_GLYPH_DIFF_LEGACY.containsKey(codePoint) && targetVersion.newerThanOrEqualTo(RENDERABLE_GLYPH_DIFF_LEGACY.get(codePoint));
+            for (int i = 0; i < RENDERABLE_GLYPH_DIFF_LEGACY.size; i++) {
+                if (targetVersion.newerThanOrEqualTo(RENDERABLE_GLYPH_DIFF_LEGACY.versions[i])) {
+                    renderable.set(RENDERABLE_GLYPH_DIFF_LEGACY.starts[i], RENDERABLE_GLYPH_DIFF_LEGACY.ends[i] + 1);
+                }
+            }
         }
+        return new CompiledGlyphs(targetVersion, renderable);
+    }
+
+    private static void putLegacy(final int codePoint, final ProtocolVersion version) {
+        RENDERABLE_GLYPH_DIFF_LEGACY.add(codePoint, codePoint, version);
+    }
+
+    private static void putLegacy(final int start, final int end, final ProtocolVersion version) {
+        RENDERABLE_GLYPH_DIFF_LEGACY.add(start, end, version);
     }
 
-    private static IntConsumer putLegacy(final ProtocolVersion version) {
-        return i -> RENDERABLE_GLYPH_DIFF_LEGACY.put(i, version);
+    private static void put(final int codePoint, final ProtocolVersion version) {
+        RENDERABLE_GLYPH_DIFF.add(codePoint, codePoint, version);
+    }
+
+    private static void put(final int start, final int end, final ProtocolVersion version) {
+        RENDERABLE_GLYPH_DIFF.add(start, end, version);
+    }
+
+    /**
+     * Inclusive code point ranges together with the version they have been added in
+     */
+    private static final class GlyphRanges {
+
+        private int[] starts = new int[256];
+        private int[] ends = new int[256];
+        private ProtocolVersion[] versions = new ProtocolVersion[256];
+        private int size;
+
+        public void add(final int start, final int end, final ProtocolVersion version) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                versions = Arrays.copyOf(versions, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            versions[size] = version;
+            size++;
+        }
+
     }
 
-    private static IntConsumer put(final ProtocolVersion version) {
-        return i -> RENDERABLE_GLYPH_DIFF.put(i, version);
+    private record CompiledGlyphs(ProtocolVersion version, BitSet renderable) {
     }
 
 }
@@ -28,13 +28,16 @@ import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayNetworkHandler;
 import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
 import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.data.ClassicProtocolExtension;
 import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.storage.ExtensionProtocolMetadataStorage;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.viaversion.vialoader.util.VersionRange.*;
 import static com.viaversion.viaversion.api.protocol.version.ProtocolVersion.*;
@@ -49,6 +52,16 @@ public final class ItemRegistryDiff {
     public static final Map<Item, VersionRange> ITEM_DIFF = new HashMap<>();
     public static final List<Item> EXTENDED_CLASSIC_ITEMS = new ArrayList<>();
 
+    /**
+     * Raw item ids of all items which are available in the current connection, compiled lazily from {@link #ITEM_DIFF}
+     */
+    private static volatile CompiledItems keptItems;
+
+    /**
+     * Incremented by {@link #invalidate()}, tables compiled for an older generation are recompiled on the next lookup
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
     static {
         ITEM_DIFF.put(OPEN_EYEBLOSSOM, andNewer(v1_21_4));
         ITEM_DIFF.put(CLOSED_EYEBLOSSOM, andNewer(v1_21_4));
@@ -1496,27 +1509,52 @@ public final class ItemRegistryDiff {
         // https://minecraft.gamepedia.com/Java_Edition_version_history
     }
 
+    /**
+     * Resets the compiled item table, called when the target version changes or the server sends new CPE extensions.
+     */
+    public static void invalidate() {
+        GENERATION.incrementAndGet();
+    }
+
     public static boolean keepItem(final Item item) {
-        if (ProtocolTranslator.getTargetVersion().equals(c0_30cpe)) {
-            final ClientPlayNetworkHandler handler = MinecraftClient.getInstance().getNetworkHandler();
-            if (handler == null) {
-                // Don't drop any items if the connection is not established yet
-                return true;
-            }
-            final ExtensionProtocolMetadataStorage extensionProtocol = ((IClientConnection) handler.getConnection()).viaFabricPlus$getUserConnection().get(ExtensionProtocolMetadataStorage.class);
-            if (extensionProtocol == null) { // Should never happen
-                return false;
-            }
-            if (extensionProtocol.hasServerExtension(ClassicProtocolExtension.CUSTOM_BLOCKS, 1) && EXTENDED_CLASSIC_ITEMS.contains(item)) {
-                return true;
+        final ProtocolVersion targetVersion = ProtocolTranslator.getTargetVersion();
+        // Read before the CPE state, so a table compiled while being invalidated is never considered up to date
+        final int generation = GENERATION.get();
+        CompiledItems items = keptItems;
+        if (items == null || items.version != targetVersion || items.generation != generation) {
+            boolean customBlocks = false;
+            if (targetVersion.equals(c0_30cpe)) {
+                final ClientPlayNetworkHandler handler = MinecraftClient.getInstance().getNetworkHandler();
+                if (handler == null) {
+                    // Don't drop any items if the connection is not established yet
+                    return true;
+                }
+                final ExtensionProtocolMetadataStorage extensionProtocol = ((IClientConnection) handler.getConnection()).viaFabricPlus$getUserConnection().get(ExtensionProtocolMetadataStorage.class);
+                if (extensionProtocol == null) { // Should never happen
+                    return false;
+                }
+                customBlocks = extensionProtocol.hasServerExtension(ClassicProtocolExtension.CUSTOM_BLOCKS, 1);
             }
+            items = keptItems = compile(targetVersion, customBlocks, generation);
         }
+        return items.items.get(Registries.ITEM.getRawId(item));
+    }
 
-        return contains(item, ProtocolTranslator.getTargetVersion());
+    private static CompiledItems compile(final ProtocolVersion version, final boolean customBlocks, final int generation) {
+        final BitSet items = new BitSet(Registries.ITEM.size());
+        for (Item item : Registries.ITEM) {
+            if (contains(item, version) || (customBlocks && EXTENDED_CLASSIC_ITEMS.contains(item))) {
+                items.set(Registries.ITEM.getRawId(item));
+            }
+        }
+        return new CompiledItems(version, generation, items);
     }
 
     public static boolean contains(final Item item, final ProtocolVersion version) {
         return !ITEM_DIFF.containsKey(item) || ITEM_DIFF.get(item).contains(version);
     }
 
+    private record CompiledItems(ProtocolVersion version, int generation, BitSet items) {
+    }
+
 }
@@ -0,0 +1,190 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.features.movement.water;
+
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Reimplementation of the fluid push in <= 1.12.2. The fluid states around an entity are sampled once into a per-thread
+ * buffer and shared between the water and lava pass of the same tick, the push vector is accumulated without allocations.
+ */
+public final class FluidMovement1_12_2 {
+
+    private static final FluidState EMPTY = Fluids.EMPTY.getDefaultState();
+
+    private static final ThreadLocal<FluidSample> SAMPLES = ThreadLocal.withInitial(FluidSample::new);
+
+    /**
+     * Updates the fluid height of the entity and pushes it in the direction of the flowing fluid.
+     *
+     * @param entity      The entity
+     * @param world       The world of the entity
+     * @param fluidTag    The fluid to handle
+     * @param fluidHeight The fluid heights of the entity
+     * @return true if the entity touches the fluid
+     */
+    public static boolean updateMovementInFluid(final Entity entity, final World world, final TagKey<Fluid> fluidTag, final Object2DoubleMap<TagKey<Fluid>> fluidHeight) {
+        final Box box = entity.getBoundingBox().expand(0, -0.4, 0).contract(0.001);
+        final int minX = MathHelper.floor(box.minX);
+        final int maxX = MathHelper.ceil(box.maxX);
+        final int minY = MathHelper.floor(box.minY);
+        final int maxY = MathHelper.ceil(box.maxY);
+        final int minZ = MathHelper.floor(box.minZ);
+        final int maxZ = MathHelper.ceil(box.maxZ);
+
+        if (!world.isRegionLoaded(minX, minY, minZ, maxX, maxY, maxZ)) {
+            return false;
+        }
+
+        final FluidSample sample = SAMPLES.get();
+        if (!sample.reuse(entity, world, minX, minY - 1, minZ, maxX, maxY, maxZ)) {
+            sample.fill(entity, world, minX, minY - 1, minZ, maxX, maxY, maxZ);
+        }
+        if (!sample.hasFluid) {
+            fluidHeight.put(fluidTag, 0);
+            return false;
+        }
+
+        final BlockPos.Mutable mutable = sample.mutable;
+        double waterHeight = 0;
+        boolean foundFluid = false;
+        double pushX = 0;
+        double pushY = 0;
+        double pushZ = 0;
+
+        int index = 0;
+        for (int x = minX; x < maxX; x++) {
+            for (int y = minY - 1; y < maxY; y++) {
+                for (int z = minZ; z < maxZ; z++) {
+                    final FluidState state = sample.states[index++];
+                    if (state.isEmpty() || !state.isIn(fluidTag)) {
+                        continue;
+                    }
+                    mutable.set(x, y, z);
+                    final double height = y + state.getHeight(world, mutable);
+                    if (height >= box.minY - 0.4) {
+                        waterHeight = Math.max(height - box.minY + 0.4, waterHeight);
+                    }
+                    if (y >= minY && maxY >= height) {
+                        foundFluid = true;
+                        final Vec3d velocity = state.getVelocity(world, mutable);
+                        pushX += velocity.x;
+                        pushY += velocity.y;
+                        pushZ += velocity.z;
+                    }
+                }
+            }
+        }
+
+        final double length = Math.sqrt(pushX * pushX + pushY * pushY + pushZ * pushZ);
+        if (length >= 1.0E-5F) { // Same threshold as Vec3d#normalize
+            final double factor = 0.014 / length;
+            entity.setVelocity(entity.getVelocity().add(pushX * factor, pushY * factor, pushZ * factor));
+        }
+
+        fluidHeight.put(fluidTag, waterHeight);
+        return foundFluid;
+    }
+
+    private static final class FluidSample {
+
+        private final BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+        private FluidState[] states = new FluidState[64];
+        private boolean hasFluid;
+
+        private Entity entity;
+        private World world;
+        private long time;
+        private int minX, minY, minZ, maxX, maxY, maxZ;
+
+        /**
+         * Samples are only shared between the fluid passes of the same entity in the same tick, this returns false
+         * if the sample can't be reused and has to be filled again.
+         */
+        private boolean reuse(final Entity entity, final World world, final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+            if (this.entity != entity || this.world != world || this.time != world.getTime()
+                    || this.minX != minX || this.minY != minY || this.minZ != minZ || this.maxX != maxX || this.maxY != maxY || this.maxZ != maxZ) {
+                return false;
+            }
+            // Only share the sample once, a later tick with the same world time has to sample again
+            this.entity = null;
+            return true;
+        }
+
+        private void fill(final Entity entity, final World world, final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ) {
+            this.entity = entity;
+            this.world = world;
+            this.time = world.getTime();
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+
+            final int size = (maxX - minX) * (maxY - minY) * (maxZ - minZ);
+            if (states.length < size) {
+                states = new FluidState[Math.max(size, states.length * 2)];
+            }
+
+            // Stored in x, y, z order, but sampled column wise to look up every chunk only once per column
+            final int sizeY = maxY - minY;
+            final int sizeZ = maxZ - minZ;
+            hasFluid = false;
+            for (int x = minX; x < maxX; x++) {
+                for (int z = minZ; z < maxZ; z++) {
+                    final WorldChunk chunk = world.getChunk(x >> 4, z >> 4);
+                    final ChunkSection[] sections = chunk.getSectionArray();
+                    for (int y = minY; y < maxY; y++) {
+                        final int sectionIndex = chunk.getSectionIndex(y);
+                        FluidState state = EMPTY;
+                        if (sectionIndex >= 0 && sectionIndex < sections.length) {
+                            final ChunkSection section = sections[sectionIndex];
+                            if (!section.isEmpty()) {
+                                state = section.getFluidState(x & 15, y & 15, z & 15);
+                            }
+                        }
+                        if (!state.isEmpty()) {
+                            hasFluid = true;
+                        }
+                        states[((x - minX) * sizeY + (y - minY)) * sizeZ + (z - minZ)] = state;
+                    }
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.features.networking.nbt_limit;
+
+import com.viaversion.nbt.limiter.TagLimiter;
+
+/**
+ * Size and depth limits for NBT read by ViaVersion from the server, selected in the general settings. A tag exceeding
+ * the limits fails the packet translation, which is then handled like any other translation error.
+ */
+public final class NbtReadLimit {
+
+    public static final int MODE_OFF = 0;
+    public static final int MODE_VANILLA = 1;
+    public static final int MODE_STRICT = 2;
+
+    /**
+     * The limits used by the vanilla client when reading NBT from the network
+     */
+    private static final int VANILLA_MAX_BYTES = 2097152;
+    private static final int VANILLA_MAX_LEVELS = 512;
+
+    private static final int STRICT_MAX_BYTES = 262144;
+    private static final int STRICT_MAX_LEVELS = 64;
+
+    private static volatile int mode = MODE_OFF;
+
+    public static void setMode(final int mode) {
+        NbtReadLimit.mode = mode;
+    }
+
+    /**
+     * @return A new limiter for reading a single tag with the selected limits
+     */
+    public static TagLimiter createLimiter() {
+        return switch (mode) {
+            case MODE_VANILLA -> TagLimiter.create(VANILLA_MAX_BYTES, VANILLA_MAX_LEVELS);
+            case MODE_STRICT -> TagLimiter.create(STRICT_MAX_BYTES, STRICT_MAX_LEVELS);
+            default -> TagLimiter.noop();
+        };
+    }
+
+}
@@ -22,9 +22,11 @@
 package com.viaversion.viafabricplus.injection.mixin.base.integration;
 
 import com.viaversion.viafabricplus.ViaFabricPlus;
+import com.viaversion.viafabricplus.base.sync_tasks.SyncTasks;
 import com.viaversion.viafabricplus.injection.access.base.bedrock.IChunkTracker;
 import com.viaversion.viafabricplus.injection.access.base.bedrock.IRakSessionCodec;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
+import com.viaversion.viafabricplus.protocoltranslator.netty.TranslationMetrics;
 import com.viaversion.viafabricplus.protocoltranslator.protocol.storage.BedrockJoinGameTracker;
 import com.viaversion.viafabricplus.settings.impl.GeneralSettings;
 import com.viaversion.viafabricplus.util.ChatUtil;
@@ -71,6 +73,17 @@ public abstract class MixinDebugHud {
 
         final ProtocolInfo info = connection.getProtocolInfo();
         information.add("P: " + info.getPipeline().pipes().size() + " C: " + info.protocolVersion() + " S: " + info.serverProtocolVersion());
+        final long pendingTasks = SyncTasks.getPendingTasks();
+        final long expiredTasks = SyncTasks.getExpiredTasks();
+        if (pendingTasks != 0 || expiredTasks != 0) {
+            information.add("Sync Tasks: P: " + pendingTasks + ", E: " + expiredTasks);
+        }
+        final TranslationMetrics translationMetrics = connection.get(TranslationMetrics.class);
+        if (translationMetrics != null) {
+            final TranslationMetrics.DirectionMetrics clientbound = translationMetrics.clientbound();
+            final TranslationMetrics.DirectionMetrics serverbound = translationMetrics.serverbound();
+            information.add("Translation: C: " + clientbound.getAverageNanos() / 1000 + "µs S: " + serverbound.getAverageNanos() / 1000 + "µs X: " + (clientbound.getCancelled() + serverbound.getCancelled()) + " E: " + (clientbound.getErrors() + serverbound.getErrors()));
+        }
         final EntityTracker entityTracker1_7_10 = connection.get(EntityTracker.class);
         if (entityTracker1_7_10 != null) {
             information.add("1.7 Entities: " + entityTracker1_7_10.getTrackedEntities().size() + ", Virtual holograms: " + entityTracker1_7_10.getVirtualHolograms().size());
@@ -23,6 +23,8 @@ package com.viaversion.viafabricplus.injection.mixin.base.integration;
 
 import com.viaversion.viafabricplus.injection.access.base.IClientConnection;
 import com.viaversion.viafabricplus.injection.access.base.IServerInfo;
+import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
+import com.viaversion.viafabricplus.protocoltranslator.util.ProtocolVersionDetector;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.SharedConstants;
 import net.minecraft.client.network.ServerInfo;
@@ -36,6 +38,8 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.net.InetSocketAddress;
+
 @Mixin(targets = "net.minecraft.client.network.MultiplayerServerListPinger$1")
 public abstract class MixinMultiplayerServerListPinger_1 implements ClientQueryPacketListener {
 
@@ -56,6 +60,14 @@ public abstract class MixinMultiplayerServerListPinger_1 implements ClientQueryP
         }
     }
 
+    @Inject(method = "onResponse(Lnet/minecraft/network/packet/s2c/query/QueryResponseS2CPacket;)V", at = @At("HEAD"))
+    private void trackDetectedVersion(QueryResponseS2CPacket packet, CallbackInfo ci) {
+        // Untranslated responses contain the real server version, store it so auto-detect doesn't have to ping the server again
+        if (((IClientConnection) field_3774).viaFabricPlus$getTargetVersion() == ProtocolTranslator.NATIVE_VERSION && field_3774.getAddress() instanceof InetSocketAddress address) {
+            packet.metadata().version().ifPresent(version -> ProtocolVersionDetector.track(address, version.protocolVersion(), version.gameVersion()));
+        }
+    }
+
     @Inject(method = "onResponse", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/ClientConnection;send(Lnet/minecraft/network/packet/Packet;)V", shift = At.Shift.AFTER))
     private void fixVersionComparison(CallbackInfo ci) {
         final ProtocolVersion version = ((IClientConnection) this.field_3774).viaFabricPlus$getTargetVersion();
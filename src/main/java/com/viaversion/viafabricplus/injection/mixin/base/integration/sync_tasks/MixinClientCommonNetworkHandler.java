@@ -24,7 +24,7 @@ package com.viaversion.viafabricplus.injection.mixin.base.integration.sync_tasks
 import com.viaversion.viafabricplus.base.sync_tasks.DataCustomPayload;
 import com.viaversion.viafabricplus.base.sync_tasks.SyncTasks;
 import net.minecraft.client.network.ClientCommonNetworkHandler;
-import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.packet.s2c.common.CustomPayloadS2CPacket;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -36,7 +36,7 @@ public abstract class MixinClientCommonNetworkHandler {
 
     @Inject(method = "onCustomPayload(Lnet/minecraft/network/packet/s2c/common/CustomPayloadS2CPacket;)V", at = @At("HEAD"), cancellable = true)
     private void handleSyncTask(CustomPayloadS2CPacket packet, CallbackInfo ci) {
-        if (packet.payload() instanceof DataCustomPayload(PacketByteBuf buf)) {
+        if (packet.payload() instanceof DataCustomPayload(RegistryByteBuf buf)) {
             SyncTasks.handleSyncTask(buf);
             ci.cancel(); // Cancel the packet, so it doesn't get processed by the client
         }
@@ -21,12 +21,11 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.block.mining_calculation;
 
-import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
-import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
-import net.minecraft.block.*;
+import com.viaversion.viafabricplus.features.block.mining_calculation.BlockHardnessDiff;
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.BlockView;
-import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
@@ -38,9 +37,6 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(AbstractBlock.AbstractBlockState.class)
 public abstract class MixinAbstractBlock_AbstractBlockState {
 
-    @Shadow
-    public abstract Block getBlock();
-
     @Shadow
     @Final
     private boolean toolRequired;
@@ -51,35 +47,14 @@ public abstract class MixinAbstractBlock_AbstractBlockState {
      */
     @Overwrite
     public boolean isToolRequired() {
-        if (this.getBlock() instanceof ShulkerBoxBlock && ProtocolTranslator.getTargetVersion().olderThan(ProtocolVersion.v1_14)) {
-            return true;
-        } else {
-            return this.toolRequired;
-        }
+        return this.toolRequired || BlockHardnessDiff.isToolRequired((BlockState) (Object) this);
     }
 
     @Inject(method = "getHardness", at = @At("RETURN"), cancellable = true)
     private void changeHardness(BlockView world, BlockPos pos, CallbackInfoReturnable<Float> cir) {
-        final Block block = this.getBlock();
-
-        if (block.equals(Blocks.END_STONE_BRICKS) || block.equals(Blocks.END_STONE_BRICK_SLAB) || block.equals(Blocks.END_STONE_BRICK_STAIRS) || block.equals(Blocks.END_STONE_BRICK_WALL)) {
-            if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_14_4)) {
-                cir.setReturnValue(0.8F);
-            }
-        } else if (block.equals(Blocks.PISTON) || block.equals(Blocks.STICKY_PISTON) || block.equals(Blocks.PISTON_HEAD)) {
-            if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_15_2)) {
-                cir.setReturnValue(0.5F);
-            }
-        } else if (block instanceof InfestedBlock) {
-            if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
-                cir.setReturnValue(0.75F);
-            } else if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_16_4)) {
-                cir.setReturnValue(0F);
-            }
-        } else if (block.equals(Blocks.OBSIDIAN)) {
-            if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(LegacyProtocolVersion.b1_8tob1_8_1)) {
-                cir.setReturnValue(10.0F);
-            }
+        final float hardness = BlockHardnessDiff.getHardness((BlockState) (Object) this);
+        if (!Float.isNaN(hardness)) {
+            cir.setReturnValue(hardness);
         }
     }
 
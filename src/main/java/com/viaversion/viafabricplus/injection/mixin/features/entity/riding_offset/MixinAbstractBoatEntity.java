@@ -28,9 +28,10 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.vehicle.AbstractBoatEntity;
 import net.minecraft.entity.vehicle.VehicleEntity;
-import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import org.joml.Vector3d;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -38,6 +39,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(AbstractBoatEntity.class)
 public abstract class MixinAbstractBoatEntity extends VehicleEntity {
 
+    @Unique
+    private final Vector3d viaFabricPlus$passengerOffset = new Vector3d();
+
     public MixinAbstractBoatEntity(EntityType<?> entityType, World world) {
         super(entityType, world);
     }
@@ -45,8 +49,8 @@ public abstract class MixinAbstractBoatEntity extends VehicleEntity {
     @Inject(method = "updatePassengerPosition", at = @At(value = "HEAD"), cancellable = true)
     private void updatePassengerPosition1_8(Entity passenger, Entity.PositionUpdater positionUpdater, CallbackInfo ci) {
         if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
-            final Vec3d newPosition = EntityRidingOffsetsPre1_20_2.getMountedHeightOffset(this, passenger).add(this.getPos());
-            positionUpdater.accept(passenger, newPosition.x, newPosition.y + EntityRidingOffsetsPre1_20_2.getHeightOffset(passenger), newPosition.z);
+            final Vector3d offset = EntityRidingOffsetsPre1_20_2.getMountedHeightOffset(this, passenger, this.viaFabricPlus$passengerOffset);
+            positionUpdater.accept(passenger, this.getX() + offset.x, this.getY() + offset.y + EntityRidingOffsetsPre1_20_2.getHeightOffset(passenger), this.getZ() + offset.z);
             ci.cancel();
         }
     }
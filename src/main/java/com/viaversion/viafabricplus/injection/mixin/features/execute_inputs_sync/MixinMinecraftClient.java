@@ -21,8 +21,8 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.execute_inputs_sync;
 
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.injection.access.execute_inputs_sync.IMouseKeyboard;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
 import java.util.Queue;
 import net.minecraft.client.Keyboard;
 import net.minecraft.client.MinecraftClient;
@@ -54,7 +54,7 @@ public abstract class MixinMinecraftClient {
             )
     )
     private void processInputQueues(CallbackInfo ci) {
-        if (DebugSettings.INSTANCE.executeInputsSynchronously.isEnabled()) {
+        if (VersionFeatures.isEnabled(VersionFeatures.EXECUTE_INPUTS_SYNCHRONOUSLY)) {
             Queue<Runnable> inputEvents = ((IMouseKeyboard) this.mouse).viaFabricPlus$getPendingScreenEvents();
             while (!inputEvents.isEmpty()) inputEvents.poll().run();
 
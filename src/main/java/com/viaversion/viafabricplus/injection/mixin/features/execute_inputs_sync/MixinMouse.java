@@ -21,8 +21,8 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.execute_inputs_sync;
 
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.injection.access.execute_inputs_sync.IMouseKeyboard;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.Mouse;
 import org.spongepowered.asm.mixin.Final;
@@ -47,7 +47,7 @@ public abstract class MixinMouse implements IMouseKeyboard {
 
     @Redirect(method = {"method_22684", "method_22685"}, at = @At(value = "INVOKE", target = "Lnet/minecraft/client/MinecraftClient;execute(Ljava/lang/Runnable;)V"))
     private void storeEvent(MinecraftClient instance, Runnable runnable) {
-        if (this.client.getNetworkHandler() != null && this.client.currentScreen != null && DebugSettings.INSTANCE.executeInputsSynchronously.isEnabled()) {
+        if (this.client.getNetworkHandler() != null && this.client.currentScreen != null && VersionFeatures.isEnabled(VersionFeatures.EXECUTE_INPUTS_SYNCHRONOUSLY)) {
             this.viaFabricPlus$pendingScreenEvents.offer(runnable);
         } else {
             instance.execute(runnable);
@@ -21,12 +21,9 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.font;
 
-import com.viaversion.viafabricplus.ViaFabricPlus;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.features.font.filter_non_existing_characters.RenderableGlyphDiff;
 import com.viaversion.viafabricplus.features.font.replace_blank_glyph.BuiltinEmptyGlyph1_12_2;
-import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
-import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.*;
 import net.minecraft.util.Identifier;
@@ -43,6 +40,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(FontStorage.class)
 public abstract class MixinFontStorage {
 
+    @Unique
+    private static final FontStorage.GlyphPair viaFabricPlus$BLANK_GLYPH_PAIR_1_12_2 = new FontStorage.GlyphPair(BuiltinEmptyGlyph1_12_2.INSTANCE, BuiltinEmptyGlyph1_12_2.INSTANCE);
+
     @Shadow
     private BakedGlyph blankBakedGlyph;
     @Shadow
@@ -50,10 +50,17 @@ public abstract class MixinFontStorage {
     private Identifier id;
     @Unique
     private BakedGlyph viaFabricPlus$blankBakedGlyph1_12_2;
+    @Unique
+    private boolean viaFabricPlus$vanillaFont;
 
     @Shadow
     protected abstract BakedGlyph bake(RenderableGlyph c);
 
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void checkVanillaFont(CallbackInfo ci) {
+        this.viaFabricPlus$vanillaFont = this.id.equals(MinecraftClient.DEFAULT_FONT_ID) || this.id.equals(MinecraftClient.UNICODE_FONT_ID);
+    }
+
     @Inject(method = "clear", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/font/BuiltinEmptyGlyph;bake(Ljava/util/function/Function;)Lnet/minecraft/client/font/BakedGlyph;", ordinal = 0))
     private void bakeBlankGlyph1_12_2(CallbackInfo ci) {
         this.viaFabricPlus$blankBakedGlyph1_12_2 = BuiltinEmptyGlyph1_12_2.INSTANCE.bake(this::bake);
@@ -76,11 +83,18 @@ public abstract class MixinFontStorage {
 
     @Inject(method = "findGlyph", at = @At("RETURN"), cancellable = true)
     private void fixBlankGlyph1_12_2(int codePoint, CallbackInfoReturnable<FontStorage.GlyphPair> cir) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_BLANK_GLYPH)) {
             final FontStorage.GlyphPair glyphPair = cir.getReturnValue();
+            if (glyphPair == FontStorage.GlyphPair.MISSING) {
+                cir.setReturnValue(viaFabricPlus$BLANK_GLYPH_PAIR_1_12_2);
+                return;
+            }
+
             final Glyph glyph1 = glyphPair.glyph();
             final Glyph glyph2 = glyphPair.advanceValidatedGlyph();
-            cir.setReturnValue(new FontStorage.GlyphPair(glyph1 == BuiltinEmptyGlyph.MISSING ? BuiltinEmptyGlyph1_12_2.INSTANCE : glyph1, glyph2 == BuiltinEmptyGlyph.MISSING ? BuiltinEmptyGlyph1_12_2.INSTANCE : glyph2));
+            if (glyph1 == BuiltinEmptyGlyph.MISSING || glyph2 == BuiltinEmptyGlyph.MISSING) {
+                cir.setReturnValue(new FontStorage.GlyphPair(glyph1 == BuiltinEmptyGlyph.MISSING ? BuiltinEmptyGlyph1_12_2.INSTANCE : glyph1, glyph2 == BuiltinEmptyGlyph.MISSING ? BuiltinEmptyGlyph1_12_2.INSTANCE : glyph2));
+            }
         }
     }
 
@@ -92,17 +106,13 @@ public abstract class MixinFontStorage {
 
     @Unique
     private boolean viaFabricPlusVisuals$shouldBeInvisible(final int codePoint) {
-        if (DebugSettings.INSTANCE.filterNonExistingGlyphs.getValue()) {
-            return (this.id.equals(MinecraftClient.DEFAULT_FONT_ID) || this.id.equals(MinecraftClient.UNICODE_FONT_ID)) && !RenderableGlyphDiff.isGlyphRenderable(codePoint);
-        } else {
-            return false;
-        }
+        return this.viaFabricPlus$vanillaFont && VersionFeatures.isEnabled(VersionFeatures.FILTER_NON_EXISTING_GLYPHS) && !RenderableGlyphDiff.isGlyphRenderable(codePoint);
     }
 
     @Unique
     private FontStorage.GlyphPair viaFabricPlus$getBlankGlyphPair() {
-        if (ViaFabricPlus.getImpl().getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_21_2)) {
-            return new FontStorage.GlyphPair(BuiltinEmptyGlyph1_12_2.INSTANCE, BuiltinEmptyGlyph1_12_2.INSTANCE);
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_BLANK_GLYPH_PAIR)) {
+            return viaFabricPlus$BLANK_GLYPH_PAIR_1_12_2;
         } else {
             return FontStorage.GlyphPair.MISSING;
         }
@@ -110,7 +120,7 @@ public abstract class MixinFontStorage {
 
     @Unique
     private BakedGlyph viaFabricPlus$getBlankBakedGlyph() {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_12_2)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_BLANK_GLYPH)) {
             return this.viaFabricPlus$blankBakedGlyph1_12_2;
         } else {
             return this.blankBakedGlyph;
@@ -46,7 +46,7 @@ public abstract class MixinWorldPacketRewriter1_19 {
         instance.registerClientbound(ClientboundPackets1_18.BLOCK_BREAK_ACK, ClientboundPackets1_19.CUSTOM_PAYLOAD, wrapper -> {
             wrapper.resetReader();
 
-            final String uuid = SyncTasks.executeSyncTask(data -> {
+            final int taskId = SyncTasks.executeSyncTask(data -> {
                 try {
                     final BlockPos pos = data.readBlockPos();
                     final BlockState blockState = BlockStateTranslator.via1_18_2toMc(data.readVarInt());
@@ -60,7 +60,7 @@ public abstract class MixinWorldPacketRewriter1_19 {
                 }
             });
             wrapper.write(Types.STRING, SyncTasks.PACKET_SYNC_IDENTIFIER);
-            wrapper.write(Types.STRING, uuid);
+            wrapper.write(Types.VAR_INT, taskId);
         });
     }
 
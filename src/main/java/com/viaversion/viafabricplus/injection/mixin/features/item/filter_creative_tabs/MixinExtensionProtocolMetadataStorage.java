@@ -0,0 +1,48 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.injection.mixin.features.item.filter_creative_tabs;
+
+import com.viaversion.viafabricplus.features.item.filter_creative_tabs.ItemRegistryDiff;
+import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.data.ClassicProtocolExtension;
+import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.storage.ExtensionProtocolMetadataStorage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(value = ExtensionProtocolMetadataStorage.class, remap = false)
+public abstract class MixinExtensionProtocolMetadataStorage {
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void invalidateCreativeItems_init(CallbackInfo ci) {
+        // New classic connection, the previous server might have supported different extensions
+        ItemRegistryDiff.invalidate();
+    }
+
+    @Inject(method = "addServerExtension", at = @At("RETURN"))
+    private void invalidateCreativeItems_addServerExtension(ClassicProtocolExtension extension, int version, CallbackInfo ci) {
+        if (extension == ClassicProtocolExtension.CUSTOM_BLOCKS) {
+            ItemRegistryDiff.invalidate();
+        }
+    }
+
+}
@@ -65,7 +65,7 @@ public abstract class MixinItemPacketRewriter1_14 extends ItemRewriter<Clientbou
         if ((type.equals("minecraft:container") || type.equals("minecraft:chest")) && (slots > 54 || slots <= 0)) {
             ci.cancel();
 
-            final String uuid = SyncTasks.executeSyncTask(data -> {
+            final int taskId = SyncTasks.executeSyncTask(data -> {
                 final MinecraftClient mc = MinecraftClient.getInstance();
 
                 try {
@@ -84,7 +84,7 @@ public abstract class MixinItemPacketRewriter1_14 extends ItemRewriter<Clientbou
             wrapper.clearPacket();
             wrapper.setPacketType(ClientboundPackets1_14.CUSTOM_PAYLOAD);
             wrapper.write(Types.STRING, SyncTasks.PACKET_SYNC_IDENTIFIER); // sync task header
-            wrapper.write(Types.STRING, uuid); // sync task id
+            wrapper.write(Types.VAR_INT, taskId); // sync task id
             wrapper.write(Types.UNSIGNED_BYTE, windowId);
             wrapper.write(Types.UNSIGNED_BYTE, slots);
             wrapper.write(Types.TAG, TextComponentTranslator.via1_14toViaLatest(title));
@@ -21,7 +21,7 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.legacy_tab_completion;
 
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.ChatInputSuggestor;
 import net.minecraft.client.gui.widget.TextFieldWidget;
@@ -90,7 +90,7 @@ public abstract class MixinChatInputSuggestor {
 
     @Unique
     private boolean viaFabricPlus$cancelTabComplete() {
-        return DebugSettings.INSTANCE.legacyTabCompletions.isEnabled() && this.textField.getText().startsWith("/");
+        return VersionFeatures.isEnabled(VersionFeatures.LEGACY_TAB_COMPLETIONS) && this.textField.getText().startsWith("/");
     }
 
 }
@@ -21,6 +21,7 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.movement.collision;
 
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.block.BlockState;
@@ -68,7 +69,7 @@ public abstract class MixinEntity {
             from = @At(value = "INVOKE", target = "Lnet/minecraft/entity/Entity;adjustMovementForCollisions(Lnet/minecraft/util/math/Vec3d;)Lnet/minecraft/util/math/Vec3d;")
     ))
     private double allowSmallValues(Vec3d instance) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_21)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.ALLOW_SMALL_MOVEMENT)) {
             return Double.MAX_VALUE;
         } else {
             return instance.lengthSquared();
@@ -77,7 +78,7 @@ public abstract class MixinEntity {
 
     @Inject(method = "adjustMovementForCollisions(Lnet/minecraft/util/math/Vec3d;)Lnet/minecraft/util/math/Vec3d;", at = @At("HEAD"), cancellable = true)
     private void use1_20_6StepCollisionCalculation(Vec3d movement, CallbackInfoReturnable<Vec3d> cir) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_20_5)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_STEP_COLLISION)) {
             final Entity thiz = (Entity) (Object) this;
             final Box box = this.getBoundingBox();
             final List<VoxelShape> collisions = this.getWorld().getEntityCollisions(thiz, box.stretch(movement));
@@ -107,7 +108,7 @@ public abstract class MixinEntity {
 
     @Inject(method = "getPosWithYOffset", at = @At("HEAD"), cancellable = true)
     private void modifyPosWithYOffset(float offset, CallbackInfoReturnable<BlockPos> cir) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_19_4)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_POS_WITH_Y_OFFSET)) {
             int i = MathHelper.floor(this.pos.x);
             int j = MathHelper.floor(this.pos.y - (double) (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_18_2) && offset == 1.0E-5F ? 0.2F : offset));
             int k = MathHelper.floor(this.pos.z);
@@ -136,7 +137,7 @@ public abstract class MixinEntity {
 
     @Redirect(method = "adjustMovementForCollisions(Lnet/minecraft/util/math/Vec3d;Lnet/minecraft/util/math/Box;Ljava/util/List;)Lnet/minecraft/util/math/Vec3d;", at = @At(value = "INVOKE", target = "Ljava/lang/Math;abs(D)D", ordinal = 0))
     private static double alwaysSortYXZ(double a) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_13_2)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_COLLISION_AXIS_ORDER)) {
             return Double.MAX_VALUE;
         } else {
             return Math.abs(a);
@@ -21,8 +21,7 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.movement.collision;
 
-import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
-import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import net.minecraft.entity.LivingEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -34,7 +33,7 @@ public abstract class MixinLivingEntity {
 
     @Inject(method = "tickCramming", at = @At("HEAD"), cancellable = true)
     private void preventEntityPush(CallbackInfo ci) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.NO_ENTITY_CRAMMING)) {
             ci.cancel();
         }
     }
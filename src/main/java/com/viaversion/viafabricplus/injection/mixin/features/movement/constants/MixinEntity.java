@@ -21,6 +21,7 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.movement.constants;
 
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.entity.Entity;
@@ -56,7 +57,7 @@ public abstract class MixinEntity {
 
     @Inject(method = "getTargetingMargin", at = @At("HEAD"), cancellable = true)
     private void expandHitBox(CallbackInfoReturnable<Float> cir) {
-        if (ProtocolTranslator.getTargetVersion().olderThanOrEqualTo(ProtocolVersion.v1_8)) {
+        if (VersionFeatures.isEnabled(VersionFeatures.LEGACY_TARGETING_MARGIN)) {
             cir.setReturnValue(0.1F);
         }
     }
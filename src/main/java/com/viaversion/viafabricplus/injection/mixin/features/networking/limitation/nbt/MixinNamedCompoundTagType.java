@@ -22,6 +22,7 @@
 package com.viaversion.viafabricplus.injection.mixin.features.networking.limitation.nbt;
 
 import com.viaversion.nbt.limiter.TagLimiter;
+import com.viaversion.viafabricplus.features.networking.nbt_limit.NbtReadLimit;
 import com.viaversion.viaversion.api.type.types.misc.NamedCompoundTagType;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -31,8 +32,8 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 public abstract class MixinNamedCompoundTagType {
 
     @Redirect(method = "read(Lio/netty/buffer/ByteBuf;Z)Lcom/viaversion/nbt/tag/CompoundTag;", at = @At(value = "INVOKE", target = "Lcom/viaversion/nbt/limiter/TagLimiter;create(II)Lcom/viaversion/nbt/limiter/TagLimiter;"))
-    private static TagLimiter removeNBTSizeLimit(int maxBytes, int maxLevels) {
-        return TagLimiter.noop();
+    private static TagLimiter useNBTReadLimit(int maxBytes, int maxLevels) {
+        return NbtReadLimit.createLimiter();
     }
 
 }
@@ -22,6 +22,7 @@
 package com.viaversion.viafabricplus.injection.mixin.features.networking.limitation.nbt;
 
 import com.viaversion.nbt.limiter.TagLimiter;
+import com.viaversion.viafabricplus.features.networking.nbt_limit.NbtReadLimit;
 import com.viaversion.viaversion.api.type.types.misc.TagType;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -31,8 +32,8 @@ import org.spongepowered.asm.mixin.injection.Redirect;
 public abstract class MixinTagType {
 
     @Redirect(method = "read(Lio/netty/buffer/ByteBuf;)Lcom/viaversion/nbt/tag/Tag;", at = @At(value = "INVOKE", target = "Lcom/viaversion/nbt/limiter/TagLimiter;create(II)Lcom/viaversion/nbt/limiter/TagLimiter;"))
-    private TagLimiter removeNBTSizeLimit(int maxBytes, int maxLevels) {
-        return TagLimiter.noop();
+    private TagLimiter useNBTReadLimit(int maxBytes, int maxLevels) {
+        return NbtReadLimit.createLimiter();
     }
 
 }
@@ -22,8 +22,8 @@
 package com.viaversion.viafabricplus.injection.mixin.features.networking.packet_handling;
 
 import com.llamalad7.mixinextras.injector.v2.WrapWithCondition;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientCommonNetworkHandler;
@@ -75,7 +75,7 @@ public abstract class MixinClientCommonNetworkHandler {
 
     @Inject(method = "savePacketErrorReport", at = @At("HEAD"), cancellable = true)
     private void dontCreatePacketErrorCrashReports(CallbackInfoReturnable<Optional<Path>> cir) {
-        if (DebugSettings.INSTANCE.dontCreatePacketErrorCrashReports.isEnabled()) {
+        if (VersionFeatures.isEnabled(VersionFeatures.DONT_CREATE_PACKET_ERROR_CRASH_REPORTS)) {
             cir.setReturnValue(Optional.empty());
         }
     }
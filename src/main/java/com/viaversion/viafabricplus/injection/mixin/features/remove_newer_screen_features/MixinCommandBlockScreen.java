@@ -21,7 +21,7 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.remove_newer_screen_features;
 
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import net.minecraft.block.entity.CommandBlockBlockEntity;
 import net.minecraft.client.gui.screen.ingame.CommandBlockScreen;
 import net.minecraft.client.gui.widget.CyclingButtonWidget;
@@ -48,7 +48,7 @@ public abstract class MixinCommandBlockScreen {
 
     @Inject(method = "init", at = @At("TAIL"))
     private void removeWidgets(CallbackInfo ci) {
-        if (DebugSettings.INSTANCE.hideModernCommandBlockScreenFeatures.isEnabled()) {
+        if (VersionFeatures.isEnabled(VersionFeatures.HIDE_MODERN_COMMAND_BLOCK_SCREEN_FEATURES)) {
             modeButton.visible = false;
             conditionalModeButton.visible = false;
             redstoneTriggerButton.visible = false;
@@ -21,8 +21,8 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.world.always_tick_entities;
 
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.injection.access.world.always_tick_entities.IEntity;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
 import net.minecraft.entity.Entity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -35,7 +35,7 @@ public abstract class MixinEntity implements IEntity {
 
     @Override
     public boolean viaFabricPlus$isInLoadedChunkAndShouldTick() {
-        return this.viaFabricPlus$isInLoadedChunkAndShouldTick || DebugSettings.INSTANCE.alwaysTickClientPlayer.isEnabled();
+        return this.viaFabricPlus$isInLoadedChunkAndShouldTick || VersionFeatures.isEnabled(VersionFeatures.ALWAYS_TICK_CLIENT_PLAYER);
     }
 
     @Override
@@ -21,8 +21,8 @@
 
 package com.viaversion.viafabricplus.injection.mixin.features.world.disable_sequencing;
 
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.features.world.disable_sequencing.PendingUpdateManager1_18_2;
-import com.viaversion.viafabricplus.settings.impl.DebugSettings;
 import net.minecraft.client.network.PendingUpdateManager;
 import net.minecraft.client.world.ClientWorld;
 import org.spongepowered.asm.mixin.Final;
@@ -43,7 +43,7 @@ public abstract class MixinClientWorld {
 
     @Inject(method = "<init>", at = @At("RETURN"))
     private void removePendingUpdateManager(CallbackInfo ci) {
-        if (DebugSettings.INSTANCE.disableSequencing.isEnabled()) {
+        if (VersionFeatures.isEnabled(VersionFeatures.DISABLE_SEQUENCING)) {
             this.pendingUpdateManager = new PendingUpdateManager1_18_2();
         }
     }
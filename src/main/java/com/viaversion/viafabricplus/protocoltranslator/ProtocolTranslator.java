@@ -26,6 +26,7 @@ import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.builder.RequiredArgumentBuilder;
 import com.viaversion.viafabricplus.base.Events;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.injection.access.base.IClientConnection;
 import com.viaversion.viafabricplus.protocoltranslator.impl.command.ViaFabricPlusVLCommandHandler;
 import com.viaversion.viafabricplus.protocoltranslator.impl.platform.ViaFabricPlusViaLegacyPlatformImpl;
@@ -34,6 +35,7 @@ import com.viaversion.viafabricplus.protocoltranslator.impl.viaversion.ViaFabric
 import com.viaversion.viafabricplus.protocoltranslator.impl.viaversion.ViaFabricPlusVLLoader;
 import com.viaversion.viafabricplus.protocoltranslator.netty.ViaFabricPlusVLLegacyPipeline;
 import com.viaversion.viafabricplus.protocoltranslator.protocol.ViaFabricPlusProtocol;
+import com.viaversion.viafabricplus.protocoltranslator.translator.ItemTranslator;
 import com.viaversion.viafabricplus.protocoltranslator.util.NoPacketSendChannel;
 import com.viaversion.vialoader.ViaLoader;
 import com.viaversion.vialoader.impl.platform.ViaAprilFoolsPlatformImpl;
@@ -154,6 +156,9 @@ public final class ProtocolTranslator {
             mixinClientConnection.viaFabricPlus$setUserConnection(user);
 
             channel.pipeline().addLast(new ViaFabricPlusVLLegacyPipeline(user, serverVersion));
+
+            // Translation sessions are bound to the player of this connection
+            channel.closeFuture().addListener(future -> ItemTranslator.resetSessions());
         }
     }
 
@@ -180,6 +185,7 @@ public final class ProtocolTranslator {
         final ProtocolVersion oldVersion = targetVersion;
         targetVersion = newVersion;
         if (oldVersion != newVersion) {
+            VersionFeatures.compile(newVersion);
             if (revertOnDisconnect) {
                 previousVersion = oldVersion;
             }
@@ -284,6 +290,9 @@ public final class ProtocolTranslator {
         }
         patchConfigs(path);
 
+        // Cached item translation sessions are only valid for the version they have been created for
+        Events.CHANGE_PROTOCOL_VERSION.register((oldVersion, newVersion) -> ItemTranslator.resetSessions());
+
         // Register command callback for /viafabricplus
         ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) -> {
             final ViaFabricPlusVLCommandHandler commandHandler = (ViaFabricPlusVLCommandHandler) Via.getManager().getCommandHandler();
@@ -27,9 +27,13 @@ import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import com.viaversion.viaversion.libs.gson.JsonElement;
 import com.viaversion.viaversion.libs.gson.JsonObject;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.registry.Registries;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class ViaFabricPlusMappingDataLoader extends MappingDataLoader {
@@ -39,6 +43,11 @@ public final class ViaFabricPlusMappingDataLoader extends MappingDataLoader {
 
     public static final ViaFabricPlusMappingDataLoader INSTANCE = new ViaFabricPlusMappingDataLoader();
 
+    /**
+     * Materials of all blocks indexed by their raw id for the last used target version
+     */
+    private static volatile CompiledMaterials compiledMaterials;
+
     private ViaFabricPlusMappingDataLoader() {
         super(ViaFabricPlusMappingDataLoader.class, "assets/viafabricplus/data/");
 
@@ -55,16 +64,31 @@ public final class ViaFabricPlusMappingDataLoader extends MappingDataLoader {
             ));
         }
         for (Map.Entry<String, JsonElement> blockEntry : materialsData.getAsJsonObject("blocks").entrySet()) {
-            final Map<ProtocolVersion, String> blockMaterials = new HashMap<>();
+            final List<Map.Entry<ProtocolVersion, String>> entries = new ArrayList<>();
             for (Map.Entry<String, JsonElement> entry : blockEntry.getValue().getAsJsonObject().entrySet()) {
-                blockMaterials.put(ProtocolVersion.getClosest(entry.getKey()), entry.getValue().getAsString());
+                entries.add(Map.entry(ProtocolVersion.getClosest(entry.getKey()), entry.getValue().getAsString()));
+            }
+            // Sort from old to new so the first matching entry is always the oldest applicable material
+            entries.sort((o1, o2) -> o1.getKey().olderThan(o2.getKey()) ? -1 : o2.getKey().olderThan(o1.getKey()) ? 1 : 0);
+
+            final Map<ProtocolVersion, String> blockMaterials = new LinkedHashMap<>();
+            for (Map.Entry<ProtocolVersion, String> entry : entries) {
+                blockMaterials.put(entry.getKey(), entry.getValue());
             }
             BLOCK_MATERIALS.put(blockEntry.getKey(), blockMaterials);
         }
     }
 
+    /**
+     * @param state The block state
+     * @return The material of the block in the current target version or null if the block has no material data
+     */
+    public static Material getMaterial(final BlockState state) {
+        return getCompiledMaterials().materials[Registries.BLOCK.getRawId(state.getBlock())];
+    }
+
     public static String getBlockMaterial(final Block block) {
-        return getBlockMaterial(block, ProtocolTranslator.getTargetVersion());
+        return getCompiledMaterials().names[Registries.BLOCK.getRawId(block)];
     }
 
     public static String getBlockMaterial(final Block block, ProtocolVersion version) {
@@ -84,6 +108,28 @@ public final class ViaFabricPlusMappingDataLoader extends MappingDataLoader {
         return null;
     }
 
+    private static CompiledMaterials getCompiledMaterials() {
+        final ProtocolVersion targetVersion = ProtocolTranslator.getTargetVersion();
+
+        CompiledMaterials materials = compiledMaterials;
+        if (materials == null || materials.version != targetVersion) {
+            final String[] names = new String[Registries.BLOCK.size()];
+            final Material[] blockMaterials = new Material[names.length];
+            for (Block block : Registries.BLOCK) {
+                final int id = Registries.BLOCK.getRawId(block);
+                names[id] = getBlockMaterial(block, targetVersion);
+                if (names[id] != null) {
+                    blockMaterials[id] = MATERIALS.get(names[id]);
+                }
+            }
+            materials = compiledMaterials = new CompiledMaterials(targetVersion, names, blockMaterials);
+        }
+        return materials;
+    }
+
+    private record CompiledMaterials(ProtocolVersion version, String[] names, Material[] materials) {
+    }
+
     public record Material(boolean blocksMovement, boolean burnable, boolean liquid, boolean blocksLight,
                            boolean replaceable, boolean solid) {
     }
@@ -0,0 +1,75 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.protocoltranslator.impl.command;
+
+import com.viaversion.viafabricplus.protocoltranslator.netty.TranslationMetrics;
+import com.viaversion.viaversion.api.command.ViaCommandSender;
+import net.minecraft.util.Formatting;
+
+public final class StatsCommand implements VFPViaSubCommand {
+
+    private static final int MOST_EXPENSIVE_LIMIT = 5;
+
+    @Override
+    public String name() {
+        return "stats";
+    }
+
+    @Override
+    public String description() {
+        return "Shows packet translation statistics of the current connection";
+    }
+
+    @Override
+    public String usage() {
+        return name() + " " + "[reset]";
+    }
+
+    @Override
+    public boolean execute(ViaCommandSender sender, String[] args) {
+        final TranslationMetrics metrics = getUser() != null ? getUser().get(TranslationMetrics.class) : null;
+        if (metrics == null) {
+            sendMessage(sender, Formatting.RED + "Not connected to a server using ViaFabricPlus");
+            return true;
+        }
+        if (args.length == 1 && args[0].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sendMessage(sender, Formatting.GREEN + "Statistics have been reset");
+            return true;
+        } else if (args.length != 0) {
+            return false;
+        }
+        sendDirection(sender, "Clientbound", metrics.clientbound());
+        sendDirection(sender, "Serverbound", metrics.serverbound());
+        return true;
+    }
+
+    private void sendDirection(final ViaCommandSender sender, final String name, final TranslationMetrics.DirectionMetrics metrics) {
+        sendMessage(sender, Formatting.GOLD + name + ": " + Formatting.GREEN + metrics.getPackets() + " packets, " + metrics.getCancelled() + " cancelled, " + metrics.getErrors() + " errors");
+        sendMessage(sender, Formatting.GRAY + "  Bytes: " + metrics.getBytesIn() + " in, " + metrics.getBytesOut() + " out");
+        sendMessage(sender, Formatting.GRAY + "  Time: " + metrics.getNanos() / 1_000_000 + "ms total, " + metrics.getAverageNanos() / 1000 + "µs avg, <" + metrics.getPercentileMicros(0.5) + "µs p50, <" + metrics.getPercentileMicros(0.99) + "µs p99");
+        for (TranslationMetrics.PacketTypeMetrics packetType : metrics.getMostExpensive(MOST_EXPENSIVE_LIMIT)) {
+            sendMessage(sender, Formatting.GRAY + "  " + packetType.getState() + " 0x" + Integer.toHexString(packetType.getPacketId()) + ": " + packetType.getCount() + " packets, " + packetType.getNanos() / 1000 + "µs total");
+        }
+    }
+
+}
@@ -44,6 +44,7 @@ public final class ViaFabricPlusVLCommandHandler extends VLCommandHandler {
 
         this.registerSubCommand(new ListExtensionsCommand());
         this.registerSubCommand(new SetTimeCommand());
+        this.registerSubCommand(new StatsCommand());
     }
 
     public int execute(final CommandContext<FabricClientCommandSource> ctx) {
@@ -24,41 +24,38 @@ package com.viaversion.viafabricplus.protocoltranslator.impl.provider.vialegacy;
 import com.viaversion.viafabricplus.protocoltranslator.translator.ItemTranslator;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.minecraft.item.Item;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 import net.raphimc.vialegacy.protocol.alpha.a1_2_3_5_1_2_6tob1_0_1_1_1.provider.AlphaInventoryProvider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static net.raphimc.vialegacy.protocol.alpha.a1_2_3_5_1_2_6tob1_0_1_1_1.Protocola1_2_3_5_1_2_6Tob1_0_1_1_1.copyItems;
 
 public final class ViaFabricPlusAlphaInventoryProvider extends AlphaInventoryProvider {
 
+    private final TranslatedSlots mainInventory = new TranslatedSlots();
+    private final TranslatedSlots craftingInventory = new TranslatedSlots();
+    private final TranslatedSlots armorInventory = new TranslatedSlots();
+    private final TranslatedSlots containerInventory = new TranslatedSlots();
+
     @Override
     public boolean usesInventoryTracker() {
         return false;
     }
 
-    private Item[] getMinecraftContainerItems(final List<ItemStack> trackingItems) {
-        final Item[] items = new Item[trackingItems.size()];
-
-        for (int i = 0; i < items.length; i++) {
-            final ItemStack alphaItem = trackingItems.get(i);
-            if (alphaItem.isEmpty()) continue;
-
-            items[i] = ItemTranslator.mcToVia(alphaItem, LegacyProtocolVersion.b1_8tob1_8_1);
-        }
-        return copyItems(items);
-    }
-
     @Override
     public Item[] getMainInventoryItems(UserConnection connection) {
         if (getPlayer() == null) {
             return new Item[37];
         } else {
-            return getMinecraftContainerItems(getPlayer().getInventory().main);
+            return mainInventory.update(getPlayer().getInventory().main);
         }
     }
 
@@ -67,7 +64,7 @@ public final class ViaFabricPlusAlphaInventoryProvider extends AlphaInventoryPro
         if (getPlayer() == null) {
             return new Item[4];
         } else {
-            return getMinecraftContainerItems(getPlayer().playerScreenHandler.getCraftingInput().getHeldStacks());
+            return craftingInventory.update(getPlayer().playerScreenHandler.getCraftingInput().getHeldStacks());
         }
     }
 
@@ -76,7 +73,7 @@ public final class ViaFabricPlusAlphaInventoryProvider extends AlphaInventoryPro
         if (getPlayer() == null) {
             return new Item[4];
         } else {
-            return getMinecraftContainerItems(getPlayer().getInventory().armor);
+            return armorInventory.update(getPlayer().getInventory().armor);
         }
     }
 
@@ -85,7 +82,7 @@ public final class ViaFabricPlusAlphaInventoryProvider extends AlphaInventoryPro
         if (getPlayer() == null) {
             return new Item[37];
         } else {
-            return getMinecraftContainerItems(getPlayer().currentScreenHandler.getStacks());
+            return containerInventory.update(getPlayer().currentScreenHandler.getStacks());
         }
     }
 
@@ -98,4 +95,47 @@ public final class ViaFabricPlusAlphaInventoryProvider extends AlphaInventoryPro
         return MinecraftClient.getInstance().player;
     }
 
+    /**
+     * Keeps a snapshot of the last seen native stacks together with their translated items, so that only slots which
+     * changed since the last poll have to be translated again.
+     */
+    private static final class TranslatedSlots {
+
+        private ItemStack[] snapshot = new ItemStack[0];
+        private Item[] translated = new Item[0];
+
+        public synchronized Item[] update(final List<ItemStack> stacks) {
+            if (snapshot.length != stacks.size()) {
+                snapshot = new ItemStack[stacks.size()];
+                Arrays.fill(snapshot, ItemStack.EMPTY);
+                translated = new Item[stacks.size()];
+            }
+
+            final IntList dirtySlots = new IntArrayList();
+            final List<ItemStack> dirtyStacks = new ArrayList<>();
+            for (int i = 0; i < snapshot.length; i++) {
+                final ItemStack stack = stacks.get(i);
+                if (ItemStack.areEqual(snapshot[i], stack)) continue;
+
+                snapshot[i] = stack.copy();
+                dirtySlots.add(i);
+                dirtyStacks.add(stack);
+            }
+
+            if (!dirtySlots.isEmpty()) {
+                final Item[] items = ItemTranslator.mcToVia(dirtyStacks, LegacyProtocolVersion.b1_8tob1_8_1);
+                for (int i = 0; i < items.length; i++) {
+                    final int slot = dirtySlots.getInt(i);
+                    translated[slot] = items[i];
+                    if (items[i] == null && !snapshot[slot].isEmpty()) {
+                        // Translation failed, try again on the next poll
+                        snapshot[slot] = ItemStack.EMPTY;
+                    }
+                }
+            }
+            return copyItems(translated);
+        }
+
+    }
+
 }
@@ -0,0 +1,279 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.protocoltranslator.netty;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import com.viaversion.viaversion.exception.CancelCodecException;
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistics about the packets translated by the ViaFabricPlus decoder and encoder of a connection.
+ * All counters are {@link LongAdder}s, so recording them from the netty thread doesn't contend with readers.
+ */
+public final class TranslationMetrics implements StorableObject {
+
+    /**
+     * Packet ids equal to or above this value are counted together in the last slot
+     */
+    public static final int MAX_PACKET_ID = 512;
+
+    /**
+     * Amount of histogram buckets, bucket 0 contains translations below 1µs, bucket n translations from 2^(n-1)µs to 2^nµs
+     */
+    public static final int HISTOGRAM_BUCKETS = 16;
+
+    private static final State[] STATES = State.values();
+
+    private final DirectionMetrics clientbound = new DirectionMetrics();
+    private final DirectionMetrics serverbound = new DirectionMetrics();
+
+    public DirectionMetrics clientbound() {
+        return clientbound;
+    }
+
+    public DirectionMetrics serverbound() {
+        return serverbound;
+    }
+
+    public void reset() {
+        clientbound.reset();
+        serverbound.reset();
+    }
+
+    /**
+     * Reads the packet id at the reader index of the buffer without modifying it.
+     *
+     * @param buf The buffer
+     * @return The packet id or -1 if the buffer doesn't start with a valid VarInt
+     */
+    public static int peekPacketId(final ByteBuf buf) {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            if (buf.readableBytes() <= i) {
+                return -1;
+            }
+            final byte in = buf.getByte(buf.readerIndex() + i);
+            value |= (in & 0x7F) << (i * 7);
+            if ((in & 0x80) == 0) {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    public static final class DirectionMetrics {
+
+        private final LongAdder packets = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[HISTOGRAM_BUCKETS];
+
+        /**
+         * Indexed by state ordinal * {@link #MAX_PACKET_ID} + packet id, entries are created on first use
+         */
+        private final AtomicReferenceArray<PacketTypeMetrics> packetTypes = new AtomicReferenceArray<>(STATES.length * MAX_PACKET_ID);
+
+        private DirectionMetrics() {
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records a translated packet.
+         *
+         * @param state    The state of the connection before the packet was translated
+         * @param packetId The packet id before translation, -1 if unknown
+         * @param nanos    The time the translation took
+         * @param bytesIn  The size of the packet before translation
+         * @param bytesOut The size of the packet after translation
+         */
+        public void record(final State state, final int packetId, final long nanos, final int bytesIn, final int bytesOut) {
+            this.packets.increment();
+            this.bytesIn.add(bytesIn);
+            this.bytesOut.add(bytesOut);
+            this.nanos.add(nanos);
+            this.histogram[bucket(nanos)].increment();
+
+            final PacketTypeMetrics packetType = packetType(state, packetId);
+            if (packetType != null) {
+                packetType.count.increment();
+                packetType.nanos.add(nanos);
+            }
+        }
+
+        /**
+         * Records a packet whose translation threw, cancellations are counted separately from real errors.
+         */
+        public void recordFailure(final State state, final int packetId, final long nanos, final int bytesIn, final Throwable throwable) {
+            if (throwable instanceof CancelCodecException) {
+                this.cancelled.increment();
+                record(state, packetId, nanos, bytesIn, 0);
+            } else {
+                this.errors.increment();
+            }
+        }
+
+        private PacketTypeMetrics packetType(final State state, final int packetId) {
+            if (state == null || packetId < 0) {
+                return null;
+            }
+            final int index = state.ordinal() * MAX_PACKET_ID + Math.min(packetId, MAX_PACKET_ID - 1);
+            PacketTypeMetrics packetType = packetTypes.get(index);
+            if (packetType == null) {
+                packetType = new PacketTypeMetrics(state, Math.min(packetId, MAX_PACKET_ID - 1));
+                if (!packetTypes.compareAndSet(index, null, packetType)) {
+                    packetType = packetTypes.get(index);
+                }
+            }
+            return packetType;
+        }
+
+        private static int bucket(final long nanos) {
+            return Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos / 1000));
+        }
+
+        /**
+         * @param limit The maximum amount of packet types to return
+         * @return The packet types which took the most translation time in total, most expensive first
+         */
+        public List<PacketTypeMetrics> getMostExpensive(final int limit) {
+            final List<PacketTypeMetrics> types = new ArrayList<>();
+            for (int i = 0; i < packetTypes.length(); i++) {
+                final PacketTypeMetrics packetType = packetTypes.get(i);
+                if (packetType != null && packetType.getCount() != 0) {
+                    types.add(packetType);
+                }
+            }
+            types.sort(Comparator.comparingLong(PacketTypeMetrics::getNanos).reversed());
+            return types.size() > limit ? types.subList(0, limit) : types;
+        }
+
+        /**
+         * @param percentile The percentile between 0 and 1
+         * @return The upper bound of the histogram bucket containing the percentile in microseconds
+         */
+        public long getPercentileMicros(final double percentile) {
+            final long[] counts = new long[HISTOGRAM_BUCKETS];
+            long total = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+                total += counts[i];
+            }
+            final long threshold = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= threshold && seen != 0) {
+                    return 1L << i;
+                }
+            }
+            return 0;
+        }
+
+        public long getAverageNanos() {
+            final long packets = this.packets.sum();
+            return packets == 0 ? 0 : nanos.sum() / packets;
+        }
+
+        public void reset() {
+            packets.reset();
+            cancelled.reset();
+            errors.reset();
+            bytesIn.reset();
+            bytesOut.reset();
+            nanos.reset();
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+            for (int i = 0; i < packetTypes.length(); i++) {
+                packetTypes.set(i, null);
+            }
+        }
+
+        public long getPackets() {
+            return packets.sum();
+        }
+
+        public long getCancelled() {
+            return cancelled.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getBytesIn() {
+            return bytesIn.sum();
+        }
+
+        public long getBytesOut() {
+            return bytesOut.sum();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+    }
+
+    public static final class PacketTypeMetrics {
+
+        private final State state;
+        private final int packetId;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private PacketTypeMetrics(final State state, final int packetId) {
+            this.state = state;
+            this.packetId = packetId;
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public int getPacketId() {
+            return packetId;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+    }
+
+}
@@ -39,8 +39,11 @@ public final class ViaFabricPlusVLLegacyPipeline extends VLLegacyPipeline {
     public static final String VIABEDROCK_ENCRYPTION_HANDLER_NAME = "viabedrock-encryption";
     public static final String VIABEDROCK_PING_ENCAPSULATION_HANDLER_NAME = "viabedrock-ping-encapsulation";
 
+    private final TranslationMetrics metrics = new TranslationMetrics();
+
     public ViaFabricPlusVLLegacyPipeline(UserConnection connection, ProtocolVersion version) {
         super(connection, version);
+        connection.put(metrics);
     }
 
     @Override
@@ -54,7 +57,12 @@ public final class ViaFabricPlusVLLegacyPipeline extends VLLegacyPipeline {
 
     @Override
     protected ChannelHandler createViaDecoder() {
-        return new ViaFabricPlusViaDecoder(this.connection);
+        return new ViaFabricPlusViaDecoder(this.connection, metrics);
+    }
+
+    @Override
+    protected ChannelHandler createViaEncoder() {
+        return new ViaFabricPlusViaEncoder(this.connection, metrics);
     }
 
     @Override
@@ -26,14 +26,46 @@ import com.viaversion.viafabricplus.settings.impl.GeneralSettings;
 import com.viaversion.viafabricplus.util.ChatUtil;
 import com.viaversion.vialoader.netty.ViaDecoder;
 import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
+import java.util.List;
+
 public final class ViaFabricPlusViaDecoder extends ViaDecoder {
 
-    public ViaFabricPlusViaDecoder(UserConnection connection) {
+    private final TranslationMetrics.DirectionMetrics metrics;
+
+    public ViaFabricPlusViaDecoder(UserConnection connection, TranslationMetrics metrics) {
         super(connection);
+        this.metrics = metrics.clientbound();
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        final State state = user.getProtocolInfo().getServerState();
+        final int packetId = TranslationMetrics.peekPacketId(in);
+        final int bytesIn = in.readableBytes();
+        final int outputs = out.size();
+
+        final long start = System.nanoTime();
+        try {
+            super.decode(ctx, in, out);
+        } catch (Throwable t) {
+            metrics.recordFailure(state, packetId, System.nanoTime() - start, bytesIn, t);
+            throw t;
+        }
+        final long nanos = System.nanoTime() - start;
+
+        int bytesOut = 0;
+        for (int i = outputs; i < out.size(); i++) {
+            if (out.get(i) instanceof ByteBuf buf) {
+                bytesOut += buf.readableBytes();
+            }
+        }
+        metrics.record(state, packetId, nanos, bytesIn, bytesOut);
     }
 
     @Override
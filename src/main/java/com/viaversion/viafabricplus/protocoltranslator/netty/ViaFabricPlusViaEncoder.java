@@ -0,0 +1,56 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.protocoltranslator.netty;
+
+import com.viaversion.vialoader.netty.ViaEncoder;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.packet.State;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+
+public final class ViaFabricPlusViaEncoder extends ViaEncoder {
+
+    private final TranslationMetrics.DirectionMetrics metrics;
+
+    public ViaFabricPlusViaEncoder(UserConnection connection, TranslationMetrics metrics) {
+        super(connection);
+        this.metrics = metrics.serverbound();
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, ByteBuf in, ByteBuf out) throws Exception {
+        final State state = user.getProtocolInfo().getClientState();
+        final int packetId = TranslationMetrics.peekPacketId(in);
+        final int bytesIn = in.readableBytes();
+        final int writerIndex = out.writerIndex();
+
+        final long start = System.nanoTime();
+        try {
+            super.encode(ctx, in, out);
+        } catch (Throwable t) {
+            metrics.recordFailure(state, packetId, System.nanoTime() - start, bytesIn, t);
+            throw t;
+        }
+        metrics.record(state, packetId, System.nanoTime() - start, bytesIn, out.writerIndex() - writerIndex);
+    }
+
+}
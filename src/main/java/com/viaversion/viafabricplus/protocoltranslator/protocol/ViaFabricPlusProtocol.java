@@ -24,6 +24,7 @@ package com.viaversion.viafabricplus.protocoltranslator.protocol;
 import com.viaversion.viafabricplus.features.entity.metadata_handling.WolfHealthTracker1_14_4;
 import com.viaversion.viafabricplus.protocoltranslator.ProtocolTranslator;
 import com.viaversion.viafabricplus.protocoltranslator.protocol.storage.BedrockJoinGameTracker;
+import com.viaversion.viafabricplus.protocoltranslator.protocol.storage.CustomPayloadMetrics;
 import com.viaversion.viaversion.api.connection.UserConnection;
 import com.viaversion.viaversion.api.protocol.AbstractSimpleProtocol;
 import com.viaversion.viaversion.api.protocol.packet.ClientboundPacketType;
@@ -40,7 +41,6 @@ import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.network.packet.s2c.custom.DebugGameTestAddMarkerCustomPayload;
 import net.minecraft.network.packet.s2c.custom.DebugGameTestClearCustomPayload;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.Pair;
 import net.raphimc.viabedrock.api.BedrockProtocolVersion;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 
@@ -52,7 +52,11 @@ public final class ViaFabricPlusProtocol extends AbstractSimpleProtocol {
 
     public static final ViaFabricPlusProtocol INSTANCE = new ViaFabricPlusProtocol();
 
-    private final Map<String, Pair<ProtocolVersion, PacketReader>> payloadDiff = new HashMap<>();
+    /**
+     * Vanilla payloads handled by the client, keyed by the channel both with and without the default namespace so that a
+     * payload only needs a single lookup with the channel string sent by the server
+     */
+    private final Map<String, PayloadMapping> payloadDiff = new HashMap<>();
 
     public ViaFabricPlusProtocol() {
         registerMapping(BrandCustomPayload.ID, LegacyProtocolVersion.c0_0_15a_1, wrapper -> wrapper.passthrough(Types.STRING));
@@ -69,33 +73,46 @@ public final class ViaFabricPlusProtocol extends AbstractSimpleProtocol {
     @Override
     protected void registerPackets() {
         registerClientbound(State.PLAY, getCustomPayload().getId(), getCustomPayload().getId(), wrapper -> {
-            final String channel = Key.namespaced(wrapper.passthrough(Types.STRING));
-            if (!channel.startsWith(Identifier.DEFAULT_NAMESPACE)) {
-                // Mods might add custom payloads that we don't want to filter, so we check for the namespace.
-                // Mods should NEVER use the default namespace of the game, not only to not break this code,
-                // but also to not break other mods and the game itself.
-                return;
-            }
+            final String channel = wrapper.passthrough(Types.STRING);
+            final CustomPayloadMetrics metrics = wrapper.user().get(CustomPayloadMetrics.class);
+            final PayloadMapping mapping = payloadDiff.get(channel);
+            if (mapping == null) {
+                // Channels without a namespace are in the default namespace
+                if (channel.indexOf(':') != -1 && !channel.startsWith(Identifier.DEFAULT_NAMESPACE)) {
+                    // Mods might add custom payloads that we don't want to filter, so we check for the namespace.
+                    // Mods should NEVER use the default namespace of the game, not only to not break this code,
+                    // but also to not break other mods and the game itself.
+                    metrics.countReceived(channel);
+                    return;
+                }
 
-            final ProtocolVersion version = wrapper.user().getProtocolInfo().serverProtocolVersion();
-            if (!payloadDiff.containsKey(channel) || version.olderThan(payloadDiff.get(channel).getLeft())) {
                 // Technically, it's wrong to just drop all payloads. However, ViaVersion doesn't translate them and the server can't detect if
                 // we handled the payload or not, so dropping them is easier than adding a bunch of useless translations for payloads
                 // which don't do anything on the client anyway.
                 wrapper.cancel();
+                metrics.countDropped(Key.namespaced(channel));
+                return;
+            }
+
+            final ProtocolVersion version = wrapper.user().getProtocolInfo().serverProtocolVersion();
+            if (version.olderThan(mapping.version())) {
+                wrapper.cancel();
+                metrics.countDropped(mapping.channel());
                 return;
             }
 
             if (version.olderThanOrEqualTo(ProtocolVersion.v1_20)) {
                 // Skip all remaining bytes after reading the payload and cancel if the payload fails to read
-                final PacketReader reader = payloadDiff.get(channel).getRight();
                 try {
-                    reader.read(wrapper);
+                    mapping.reader().read(wrapper);
                     wrapper.read(Types.REMAINING_BYTES);
                 } catch (Exception ignored) {
                     wrapper.cancel();
+                    metrics.countDropped(mapping.channel());
+                    return;
                 }
             }
+            metrics.countReceived(mapping.channel());
         });
     }
 
@@ -104,6 +121,7 @@ public final class ViaFabricPlusProtocol extends AbstractSimpleProtocol {
         super.init(connection);
 
         final ProtocolVersion serverVersion = ProtocolTranslator.getTargetVersion(connection.getChannel());
+        connection.put(new CustomPayloadMetrics());
 
         // Add storages we need for different fixes here
         if (serverVersion.equals(BedrockProtocolVersion.bedrockLatest)) {
@@ -114,7 +132,9 @@ public final class ViaFabricPlusProtocol extends AbstractSimpleProtocol {
     }
 
     private void registerMapping(final CustomPayload.Id<?> id, final ProtocolVersion version, final PacketReader reader) {
-        payloadDiff.put(id.id().toString(), new Pair<>(version, reader));
+        final PayloadMapping mapping = new PayloadMapping(id.id().toString(), version, reader);
+        payloadDiff.put(mapping.channel(), mapping);
+        payloadDiff.put(id.id().getPath(), mapping);
     }
 
     public static ServerboundPacketType getSetCreativeModeSlot() {
@@ -125,6 +145,9 @@ public final class ViaFabricPlusProtocol extends AbstractSimpleProtocol {
         return ClientboundPackets1_21_2.CUSTOM_PAYLOAD;
     }
 
+    private record PayloadMapping(String channel, ProtocolVersion version, PacketReader reader) {
+    }
+
     @FunctionalInterface
     interface PacketReader {
 
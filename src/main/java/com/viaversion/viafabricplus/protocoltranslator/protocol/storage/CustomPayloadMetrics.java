@@ -0,0 +1,93 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.protocoltranslator.protocol.storage;
+
+import com.viaversion.viaversion.api.connection.StorableObject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the custom payloads received from the server per channel and how many of them were dropped by
+ * {@link com.viaversion.viafabricplus.protocoltranslator.protocol.ViaFabricPlusProtocol}.
+ */
+public final class CustomPayloadMetrics implements StorableObject {
+
+    /**
+     * Servers can send any channel name, channels after this limit are counted under {@link #OTHER_CHANNELS}
+     */
+    private static final int MAX_CHANNELS = 256;
+    private static final String OTHER_CHANNELS = "other";
+
+    private final Map<String, ChannelMetrics> channels = new ConcurrentHashMap<>();
+
+    public void countReceived(final String channel) {
+        get(channel).received.increment();
+    }
+
+    public void countDropped(final String channel) {
+        final ChannelMetrics metrics = get(channel);
+        metrics.received.increment();
+        metrics.dropped.increment();
+    }
+
+    private ChannelMetrics get(final String channel) {
+        final ChannelMetrics metrics = channels.get(channel);
+        if (metrics != null) {
+            return metrics;
+        }
+        return channels.computeIfAbsent(channels.size() < MAX_CHANNELS ? channel : OTHER_CHANNELS, c -> new ChannelMetrics());
+    }
+
+    /**
+     * @return A snapshot of the amount of payloads received per channel
+     */
+    public Map<String, Long> getReceived() {
+        final Map<String, Long> received = new HashMap<>(channels.size());
+        channels.forEach((channel, metrics) -> received.put(channel, metrics.received.sum()));
+        return received;
+    }
+
+    /**
+     * @return A snapshot of the amount of payloads dropped per channel, channels without dropped payloads are omitted
+     */
+    public Map<String, Long> getDropped() {
+        final Map<String, Long> dropped = new HashMap<>();
+        channels.forEach((channel, metrics) -> {
+            final long count = metrics.dropped.sum();
+            if (count != 0) {
+                dropped.put(channel, count);
+            }
+        });
+        return dropped;
+    }
+
+    private static final class ChannelMetrics {
+
+        private final LongAdder received = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+    }
+
+}
@@ -48,57 +48,177 @@ import net.raphimc.vialegacy.protocol.release.r1_2_4_5tor1_3_1_2.types.Types1_2_
 import net.raphimc.vialegacy.protocol.release.r1_4_2tor1_4_4_5.types.Types1_4_2;
 import net.raphimc.vialegacy.protocol.release.r1_7_6_10tor1_8.types.Types1_7_6;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public final class ItemTranslator {
 
+    /**
+     * Maximum amount of translation sessions kept alive at the same time, the least recently used one gets evicted first
+     */
+    private static final int MAX_SESSIONS = 4;
+
+    /**
+     * Dummy user connections with an initialized protocol pipeline from {@link ProtocolTranslator#NATIVE_VERSION} to the key version.
+     * Creating those is expensive since every protocol in the path has to be initialized, so they are reused until the
+     * connection is closed or the target version changes.
+     */
+    private static final Map<ProtocolVersion, UserConnection> SESSIONS = new LinkedHashMap<>(MAX_SESSIONS, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ProtocolVersion, UserConnection> eldest) {
+            return size() > MAX_SESSIONS;
+        }
+    };
+
     public static Item mcToVia(final ItemStack stack, final ProtocolVersion targetVersion) {
-        final UserConnection connection = ProtocolTranslator.createDummyUserConnection(ProtocolTranslator.NATIVE_VERSION, targetVersion);
+        final UserConnection connection = getSession(targetVersion);
 
-        try {
-            final RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), MinecraftClient.getInstance().getNetworkHandler().getRegistryManager());
-            buf.writeShort(0); // slot
-            ItemStack.OPTIONAL_PACKET_CODEC.encode(buf, stack); // item
+        synchronized (connection) {
+            try {
+                return mcToVia(connection, stack, targetVersion);
+            } catch (Throwable t) {
+                ViaFabricPlusImpl.INSTANCE.logger().error("Error converting native item stack to ViaVersion {} item stack", targetVersion, t);
+                invalidateSession(targetVersion, connection);
+                return null;
+            }
+        }
+    }
 
-            final PacketWrapper setCreativeModeSlot = PacketWrapper.create(ViaFabricPlusProtocol.getSetCreativeModeSlot(), buf, connection);
-            connection.getProtocolInfo().getPipeline().transform(Direction.SERVERBOUND, State.PLAY, setCreativeModeSlot);
+    /**
+     * Converts multiple native item stacks using the same translation session, empty stacks are translated to null.
+     *
+     * @param stacks        The native item stacks
+     * @param targetVersion The target version
+     * @return The ViaVersion items in the same order as the input, or null entries if the conversion failed
+     */
+    public static Item[] mcToVia(final List<ItemStack> stacks, final ProtocolVersion targetVersion) {
+        final Item[] items = new Item[stacks.size()];
+        if (items.length == 0) {
+            return items;
+        }
 
-            setCreativeModeSlot.read(Types.SHORT); // slot
-            return setCreativeModeSlot.read(getServerboundItemType(targetVersion)); // item
-        } catch (Throwable t) {
-            ViaFabricPlusImpl.INSTANCE.logger().error("Error converting native item stack to ViaVersion {} item stack", targetVersion, t);
-            return null;
+        final UserConnection connection = getSession(targetVersion);
+        synchronized (connection) {
+            for (int i = 0; i < items.length; i++) {
+                final ItemStack stack = stacks.get(i);
+                if (stack.isEmpty()) continue;
+
+                try {
+                    items[i] = mcToVia(connection, stack, targetVersion);
+                } catch (Throwable t) {
+                    ViaFabricPlusImpl.INSTANCE.logger().error("Error converting native item stack to ViaVersion {} item stack", targetVersion, t);
+                    invalidateSession(targetVersion, connection);
+                    return items;
+                }
+            }
         }
+        return items;
     }
 
     public static ItemStack viaToMc(final Item item, final ProtocolVersion sourceVersion) {
-        final UserConnection connection = ProtocolTranslator.createDummyUserConnection(ProtocolTranslator.NATIVE_VERSION, sourceVersion);
-
-        try {
-            final Protocol<?, ?, ?, ?> sourceProtocol = connection.getProtocolInfo().getPipeline().reversedPipes().stream().filter(p -> !p.isBaseProtocol()).findFirst().orElseThrow();
-            final PacketWrapper containerSetSlot = PacketWrapper.create(sourceProtocol.getPacketTypesProvider().unmappedClientboundType(State.PLAY, ClientboundPackets1_12_1.CONTAINER_SET_SLOT.getName()), connection);
-            if (sourceVersion.newerThanOrEqualTo(ProtocolVersion.v1_8)) {
-                containerSetSlot.write(Types.UNSIGNED_BYTE, (short) 0); // window id
-            } else {
-                containerSetSlot.write(Types.BYTE, (byte) 0); // window id
+        final UserConnection connection = getSession(sourceVersion);
+
+        synchronized (connection) {
+            try {
+                return viaToMc(connection, item, sourceVersion);
+            } catch (Throwable t) {
+                ViaFabricPlusImpl.INSTANCE.logger().error("Error converting ViaVersion {} item to native item stack", sourceVersion, t);
+                invalidateSession(sourceVersion, connection);
+                return ItemStack.EMPTY;
             }
-            containerSetSlot.write(Types.SHORT, (short) 0); // slot
-            containerSetSlot.write(getClientboundItemType(sourceVersion), item != null ? item.copy() : null); // item
-
-            containerSetSlot.resetReader();
-            containerSetSlot.user().getProtocolInfo().getPipeline().transform(Direction.CLIENTBOUND, State.PLAY, containerSetSlot);
-            final RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), MinecraftClient.getInstance().getNetworkHandler().getRegistryManager());
-            containerSetSlot.setPacketType(null);
-            containerSetSlot.writeToBuffer(buf);
-
-            buf.readUnsignedByte(); // sync id
-            buf.readVarInt(); // revision
-            buf.readShort(); // slot
-            return ItemStack.OPTIONAL_PACKET_CODEC.decode(buf);
-        } catch (Throwable t) {
-            ViaFabricPlusImpl.INSTANCE.logger().error("Error converting ViaVersion {} item to native item stack", sourceVersion, t);
-            return ItemStack.EMPTY;
         }
     }
 
+    /**
+     * Converts multiple ViaVersion items using the same translation session.
+     *
+     * @param items         The ViaVersion items
+     * @param sourceVersion The source version of the items
+     * @return The native item stacks in the same order as the input, or {@link ItemStack#EMPTY} if the conversion failed
+     */
+    public static List<ItemStack> viaToMc(final List<Item> items, final ProtocolVersion sourceVersion) {
+        final List<ItemStack> stacks = new ArrayList<>(items.size());
+        if (items.isEmpty()) {
+            return stacks;
+        }
+
+        final UserConnection connection = getSession(sourceVersion);
+        synchronized (connection) {
+            for (Item item : items) {
+                try {
+                    stacks.add(viaToMc(connection, item, sourceVersion));
+                } catch (Throwable t) {
+                    ViaFabricPlusImpl.INSTANCE.logger().error("Error converting ViaVersion {} item to native item stack", sourceVersion, t);
+                    invalidateSession(sourceVersion, connection);
+                    while (stacks.size() < items.size()) {
+                        stacks.add(ItemStack.EMPTY);
+                    }
+                    return stacks;
+                }
+            }
+        }
+        return stacks;
+    }
+
+    /**
+     * Drops all cached translation sessions, called when the target version changes or the connection is closed.
+     */
+    public static void resetSessions() {
+        synchronized (SESSIONS) {
+            SESSIONS.clear();
+        }
+    }
+
+    private static UserConnection getSession(final ProtocolVersion version) {
+        synchronized (SESSIONS) {
+            return SESSIONS.computeIfAbsent(version, v -> ProtocolTranslator.createDummyUserConnection(ProtocolTranslator.NATIVE_VERSION, v));
+        }
+    }
+
+    private static void invalidateSession(final ProtocolVersion version, final UserConnection connection) {
+        // The pipeline might be in an inconsistent state after a failed translation, create a new one on the next call
+        synchronized (SESSIONS) {
+            SESSIONS.remove(version, connection);
+        }
+    }
+
+    private static Item mcToVia(final UserConnection connection, final ItemStack stack, final ProtocolVersion targetVersion) throws Exception {
+        final RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), MinecraftClient.getInstance().getNetworkHandler().getRegistryManager());
+        buf.writeShort(0); // slot
+        ItemStack.OPTIONAL_PACKET_CODEC.encode(buf, stack); // item
+
+        final PacketWrapper setCreativeModeSlot = PacketWrapper.create(ViaFabricPlusProtocol.getSetCreativeModeSlot(), buf, connection);
+        connection.getProtocolInfo().getPipeline().transform(Direction.SERVERBOUND, State.PLAY, setCreativeModeSlot);
+
+        setCreativeModeSlot.read(Types.SHORT); // slot
+        return setCreativeModeSlot.read(getServerboundItemType(targetVersion)); // item
+    }
+
+    private static ItemStack viaToMc(final UserConnection connection, final Item item, final ProtocolVersion sourceVersion) throws Exception {
+        final Protocol<?, ?, ?, ?> sourceProtocol = connection.getProtocolInfo().getPipeline().reversedPipes().stream().filter(p -> !p.isBaseProtocol()).findFirst().orElseThrow();
+        final PacketWrapper containerSetSlot = PacketWrapper.create(sourceProtocol.getPacketTypesProvider().unmappedClientboundType(State.PLAY, ClientboundPackets1_12_1.CONTAINER_SET_SLOT.getName()), connection);
+        if (sourceVersion.newerThanOrEqualTo(ProtocolVersion.v1_8)) {
+            containerSetSlot.write(Types.UNSIGNED_BYTE, (short) 0); // window id
+        } else {
+            containerSetSlot.write(Types.BYTE, (byte) 0); // window id
+        }
+        containerSetSlot.write(Types.SHORT, (short) 0); // slot
+        containerSetSlot.write(getClientboundItemType(sourceVersion), item != null ? item.copy() : null); // item
+
+        containerSetSlot.resetReader();
+        containerSetSlot.user().getProtocolInfo().getPipeline().transform(Direction.CLIENTBOUND, State.PLAY, containerSetSlot);
+        final RegistryByteBuf buf = new RegistryByteBuf(Unpooled.buffer(), MinecraftClient.getInstance().getNetworkHandler().getRegistryManager());
+        containerSetSlot.setPacketType(null);
+        containerSetSlot.writeToBuffer(buf);
+
+        buf.readUnsignedByte(); // sync id
+        buf.readVarInt(); // revision
+        buf.readShort(); // slot
+        return ItemStack.OPTIONAL_PACKET_CODEC.decode(buf);
+    }
+
     /**
      * Gets the ViaVersion item type for the target version in the serverbound direction
      *
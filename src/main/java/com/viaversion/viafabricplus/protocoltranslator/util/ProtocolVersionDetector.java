@@ -20,6 +20,8 @@
  */
 package com.viaversion.viafabricplus.protocoltranslator.util;
 
+import com.viaversion.viafabricplus.save.SaveManager;
+import com.viaversion.viafabricplus.save.impl.DetectedVersionsSave;
 import com.viaversion.vialoader.util.ProtocolVersionList;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.lenni0451.mcping.MCPing;
@@ -27,6 +29,10 @@ import net.lenni0451.mcping.responses.MCPingResponse;
 import net.minecraft.util.Formatting;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This class can be used to detect the protocol version of a server without connecting to it.
@@ -36,13 +42,29 @@ public final class ProtocolVersionDetector {
     private static final int TIMEOUT = 3000;
 
     /**
-     * Detects the protocol version of a server
+     * All included version names mapped to their protocol, built on first use
+     */
+    private static volatile Map<String, ProtocolVersion> versionsByName;
+
+    /**
+     * All included version names and their protocols in the order of {@link ProtocolVersionList#getProtocolsNewToOld()}
+     */
+    private static String[] versionNames;
+    private static ProtocolVersion[] versionProtocols;
+
+    /**
+     * Detects the protocol version of a server, servers which have recently been pinged in the server list are not pinged again.
      *
      * @param serverAddress The address of the server
      * @param clientVersion The version of the client
      * @return The protocol version of the server
      */
     public static ProtocolVersion get(final InetSocketAddress serverAddress, final ProtocolVersion clientVersion) {
+        final DetectedVersionsSave.DetectedVersion detectedVersion = SaveManager.INSTANCE.getDetectedVersionsSave().get(toKey(serverAddress));
+        if (detectedVersion != null) {
+            return get(detectedVersion.protocol(), detectedVersion.name(), clientVersion);
+        }
+
         final MCPingResponse response = MCPing
                 .pingModern(clientVersion.getOriginalVersion())
                 .address(serverAddress)
@@ -50,23 +72,71 @@ public final class ProtocolVersionDetector {
                 .timeout(TIMEOUT, TIMEOUT)
                 .getSync();
 
-        if (response.version.protocol == clientVersion.getOriginalVersion()) { // If the server is on the same version as the client, we can just connect
+        final ProtocolVersion version = get(response.version.protocol, response.version.name, clientVersion);
+        track(serverAddress, response.version.protocol, response.version.name);
+        return version;
+    }
+
+    /**
+     * Stores the version a server reported in a status response, so it can be used when connecting to the server later.
+     *
+     * @param serverAddress The address of the server
+     * @param protocol      The protocol id sent by the server
+     * @param name          The version name sent by the server
+     */
+    public static void track(final InetSocketAddress serverAddress, final int protocol, final String name) {
+        SaveManager.INSTANCE.getDetectedVersionsSave().put(toKey(serverAddress), protocol, name);
+    }
+
+    private static ProtocolVersion get(final int protocol, final String name, final ProtocolVersion clientVersion) {
+        if (protocol == clientVersion.getOriginalVersion()) { // If the server is on the same version as the client, we can just connect
             return clientVersion;
         }
 
-        if (ProtocolVersion.isRegistered(response.version.protocol)) { // If the protocol is registered, we can use it
-            return ProtocolVersion.getProtocol(response.version.protocol);
+        if (ProtocolVersion.isRegistered(protocol)) { // If the protocol is registered, we can use it
+            return ProtocolVersion.getProtocol(protocol);
         } else {
-            for (ProtocolVersion protocol : ProtocolVersionList.getProtocolsNewToOld()) {
-                for (String version : protocol.getIncludedVersions()) {
-                    if (response.version.name.contains(version)) {
-                        return protocol;
-                    }
+            if (versionsByName == null) {
+                buildVersionIndex();
+            }
+
+            final ProtocolVersion exactMatch = versionsByName.get(name);
+            if (exactMatch != null) {
+                return exactMatch;
+            }
+            for (int i = 0; i < versionNames.length; i++) {
+                if (name.contains(versionNames[i])) {
+                    return versionProtocols[i];
                 }
             }
             throw new RuntimeException("Unable to detect the server version\nServer sent an invalid protocol id: "
-                    + response.version.protocol + " (" + response.version.name + Formatting.RESET + ")");
+                    + protocol + " (" + name + Formatting.RESET + ")");
         }
     }
 
+    private static synchronized void buildVersionIndex() {
+        if (versionsByName != null) {
+            return;
+        }
+
+        final Map<String, ProtocolVersion> byName = new HashMap<>();
+        final List<String> names = new ArrayList<>();
+        final List<ProtocolVersion> protocols = new ArrayList<>();
+        for (ProtocolVersion protocol : ProtocolVersionList.getProtocolsNewToOld()) {
+            for (String version : protocol.getIncludedVersions()) {
+                byName.putIfAbsent(version, protocol);
+                names.add(version);
+                protocols.add(protocol);
+            }
+        }
+        versionNames = names.toArray(String[]::new);
+        versionProtocols = protocols.toArray(ProtocolVersion[]::new);
+        versionsByName = byName;
+    }
+
+    private static String toKey(final InetSocketAddress address) {
+        final String host = address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+        return host + ":" + address.getPort();
+    }
+
 }
@@ -26,9 +26,10 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.viaversion.viafabricplus.ViaFabricPlusImpl;
 
-import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 
 /**
@@ -37,14 +38,36 @@ import java.nio.file.StandardOpenOption;
 public abstract class AbstractSave {
 
     public static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    public static final Gson COMPACT_GSON = new GsonBuilder().create();
 
     private final Path path;
+    private final Path tempPath;
+    private final Gson gson;
+
+    /**
+     * The content of the file as it was last read or written, used to skip writes if nothing changed.
+     */
+    private JsonObject lastWritten;
+    /**
+     * The content of the file at the time it was last marked dirty, waiting to be written by the save thread.
+     */
+    private JsonObject snapshot;
 
     /**
      * @param name The name of the file.
      */
     public AbstractSave(final String name) {
+        this(name, false);
+    }
+
+    /**
+     * @param name    The name of the file.
+     * @param compact Whether the file should be written without pretty printing, useful for files only read by the mod itself.
+     */
+    public AbstractSave(final String name, final boolean compact) {
         path = ViaFabricPlusImpl.INSTANCE.rootPath().resolve(name + ".json");
+        tempPath = path.resolveSibling(name + ".json.tmp");
+        gson = compact ? COMPACT_GSON : GSON;
     }
 
     /**
@@ -57,6 +80,7 @@ public abstract class AbstractSave {
                 final JsonObject object = GSON.fromJson(Files.readString(path), JsonObject.class);
                 if (object != null) {
                     read(object);
+                    lastWritten = object;
                 } else {
                     ViaFabricPlusImpl.INSTANCE.logger().error("The file {} is empty!", path.getFileName());
                 }
@@ -67,14 +91,55 @@ public abstract class AbstractSave {
     }
 
     /**
-     * This method should be called when the file should be saved.
+     * Marks the file as changed, it will be written by the save thread shortly after. Multiple changes in a short time
+     * are coalesced into a single write. The content is serialized on the calling thread, so this has to be called
+     * from the thread which changed the data, the save thread never reads it.
+     */
+    public void markDirty() {
+        final JsonObject object = new JsonObject();
+        write(object);
+        synchronized (this) {
+            snapshot = object;
+        }
+        SaveManager.INSTANCE.scheduleFlush();
+    }
+
+    /**
+     * Writes the content captured by the last {@link #markDirty()} call, does nothing if there is none.
      */
-    public void save() {
+    synchronized void writeSnapshot() {
+        if (snapshot != null) {
+            writeFile(snapshot);
+        }
+    }
+
+    /**
+     * This method should be called when the file should be saved. The content is serialized on the calling thread.
+     */
+    public synchronized void save() {
+        final JsonObject object = new JsonObject();
+        write(object);
+        writeFile(object);
+    }
+
+    /**
+     * The file is only written if its content changed since the last read or write, and is replaced atomically so a
+     * crash during the write can't corrupt it.
+     */
+    private void writeFile(final JsonObject object) {
+        snapshot = null;
         try {
-            final JsonObject object = new JsonObject();
-            write(object);
+            if (object.equals(lastWritten)) {
+                return;
+            }
 
-            Files.writeString(path, GSON.toJson(object), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.writeString(tempPath, gson.toJson(object), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            lastWritten = object;
         } catch (Exception e) {
             ViaFabricPlusImpl.INSTANCE.logger().error("Failed to write file: {}!", path.getFileName(), e);
         }
@@ -24,20 +24,38 @@ package com.viaversion.viafabricplus.save;
 import com.viaversion.viafabricplus.api.events.LoadingCycleCallback;
 import com.viaversion.viafabricplus.base.Events;
 import com.viaversion.viafabricplus.save.impl.AccountsSave;
+import com.viaversion.viafabricplus.save.impl.DetectedVersionsSave;
 import com.viaversion.viafabricplus.save.impl.SettingsSave;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public final class SaveManager {
 
     public static final SaveManager INSTANCE = new SaveManager();
 
+    /**
+     * Delay in milliseconds between a save being marked dirty and it being written, changes in between are coalesced
+     */
+    private static final long FLUSH_DELAY = 1000;
+
     private final List<AbstractSave> saves = new ArrayList<>();
 
+    private final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "ViaFabricPlus Save Thread");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pendingFlush;
+
     private SettingsSave settingsSave;
     private AccountsSave accountsSave;
+    private DetectedVersionsSave detectedVersionsSave;
 
     public void init() {
         Events.LOADING_CYCLE.invoker().onLoadCycle(LoadingCycleCallback.LoadingCycle.PRE_FILES_LOAD);
@@ -45,7 +63,8 @@ public final class SaveManager {
         // Register saves
         add(
                 settingsSave = new SettingsSave(),
-                accountsSave = new AccountsSave()
+                accountsSave = new AccountsSave(),
+                detectedVersionsSave = new DetectedVersionsSave()
         );
 
         // Load save files
@@ -53,14 +72,36 @@ public final class SaveManager {
             save.init();
         }
 
-        // Save the save files on shutdown
+        // The selected target version is stored in the settings
+        Events.CHANGE_PROTOCOL_VERSION.register((oldVersion, newVersion) -> settingsSave.markDirty());
+
+        // Save the save files on shutdown, this also covers changes which weren't marked dirty, e.g. by other mods
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            saveExecutor.shutdown();
             for (AbstractSave save : saves) {
                 save.save();
             }
         }));
     }
 
+    /**
+     * Schedules a write of all saves marked dirty on the save thread, does nothing if a write is already pending.
+     */
+    public synchronized void scheduleFlush() {
+        if (saveExecutor.isShutdown() || (pendingFlush != null && !pendingFlush.isDone())) {
+            return;
+        }
+        pendingFlush = saveExecutor.schedule(() -> {
+            // Clear before writing, so saves marked dirty while writing schedule another flush
+            synchronized (this) {
+                pendingFlush = null;
+            }
+            for (AbstractSave save : saves) {
+                save.writeSnapshot();
+            }
+        }, FLUSH_DELAY, TimeUnit.MILLISECONDS);
+    }
+
     public void postInit() {
         for (AbstractSave save : saves) {
             save.postInit();
@@ -80,4 +121,8 @@ public final class SaveManager {
         return accountsSave;
     }
 
+    public DetectedVersionsSave getDetectedVersionsSave() {
+        return detectedVersionsSave;
+    }
+
 }
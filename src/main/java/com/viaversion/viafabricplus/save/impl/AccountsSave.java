@@ -80,6 +80,7 @@ public final class AccountsSave extends AbstractSave {
         }
         try {
             bedrockAccount = BedrockSettings.BEDROCK_DEVICE_CODE_LOGIN.refresh(MinecraftAuth.createHttpClient(), bedrockAccount);
+            markDirty();
         } catch (Throwable t) {
             throw new RuntimeException("Failed to refresh Bedrock chain data. Please re-login to Bedrock!", t);
         }
@@ -92,6 +93,7 @@ public final class AccountsSave extends AbstractSave {
 
     public void setBedrockAccount(StepFullBedrockSession.FullBedrockSession bedrockAccount) {
         this.bedrockAccount = bedrockAccount;
+        markDirty();
     }
 
     public CCAccount getClassicubeAccount() {
@@ -100,6 +102,7 @@ public final class AccountsSave extends AbstractSave {
 
     public void setClassicubeAccount(CCAccount classicubeAccount) {
         this.classicubeAccount = classicubeAccount;
+        markDirty();
     }
 
     @FunctionalInterface
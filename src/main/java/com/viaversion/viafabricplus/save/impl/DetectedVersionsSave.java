@@ -0,0 +1,101 @@
+/*
+ * This file is part of ViaFabricPlus - https://github.com/ViaVersion/ViaFabricPlus
+ * Copyright (C) 2021-2025 the original authors
+ *                         - FlorianMichael/EnZaXD <florian.michael07@gmail.com>
+ *                         - RK_01/RaphiMC
+ * Copyright (C) 2023-2025 ViaVersion and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.viaversion.viafabricplus.save.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.viaversion.viafabricplus.save.AbstractSave;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores the versions reported by servers, so auto-detecting the protocol doesn't require an additional ping on every connect.
+ */
+public final class DetectedVersionsSave extends AbstractSave {
+
+    /**
+     * How long a detected version is considered valid
+     */
+    private static final long MAX_AGE = TimeUnit.MINUTES.toMillis(30);
+
+    private final Map<String, DetectedVersion> detectedVersions = new ConcurrentHashMap<>();
+
+    public DetectedVersionsSave() {
+        super("detected-versions", true);
+    }
+
+    @Override
+    public void write(JsonObject object) {
+        for (Map.Entry<String, DetectedVersion> entry : detectedVersions.entrySet()) {
+            final DetectedVersion version = entry.getValue();
+            if (version.isExpired()) {
+                continue;
+            }
+
+            final JsonObject versionObject = new JsonObject();
+            versionObject.addProperty("protocol", version.protocol());
+            versionObject.addProperty("name", version.name());
+            versionObject.addProperty("timestamp", version.timestamp());
+            object.add(entry.getKey(), versionObject);
+        }
+    }
+
+    @Override
+    public void read(JsonObject object) {
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            final JsonObject versionObject = entry.getValue().getAsJsonObject();
+            final DetectedVersion version = new DetectedVersion(versionObject.get("protocol").getAsInt(), versionObject.get("name").getAsString(), versionObject.get("timestamp").getAsLong());
+            if (!version.isExpired()) {
+                detectedVersions.put(entry.getKey(), version);
+            }
+        }
+    }
+
+    /**
+     * @param address The address of the server
+     * @return The version reported by the server or null if the server hasn't been pinged recently
+     */
+    public DetectedVersion get(final String address) {
+        final DetectedVersion version = detectedVersions.get(address);
+        if (version != null && version.isExpired()) {
+            detectedVersions.remove(address, version);
+            return null;
+        }
+        return version;
+    }
+
+    public void put(final String address, final int protocol, final String name) {
+        detectedVersions.put(address, new DetectedVersion(protocol, name, System.currentTimeMillis()));
+        markDirty();
+    }
+
+    public record DetectedVersion(int protocol, String name, long timestamp) {
+
+        public boolean isExpired() {
+            return System.currentTimeMillis() - timestamp > MAX_AGE;
+        }
+
+    }
+
+}
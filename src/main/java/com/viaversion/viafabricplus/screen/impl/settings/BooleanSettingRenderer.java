@@ -22,6 +22,7 @@
 package com.viaversion.viafabricplus.screen.impl.settings;
 
 import com.viaversion.viafabricplus.api.settings.type.BooleanSetting;
+import com.viaversion.viafabricplus.save.SaveManager;
 import com.viaversion.viafabricplus.screen.VFPListEntry;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -46,6 +47,7 @@ public final class BooleanSettingRenderer extends VFPListEntry {
     @Override
     public void mappedMouseClicked(double mouseX, double mouseY, int button) {
         this.value.setValue(!this.value.getValue());
+        SaveManager.INSTANCE.getSettingsSave().markDirty();
     }
 
     @Override
@@ -22,6 +22,7 @@
 package com.viaversion.viafabricplus.screen.impl.settings;
 
 import com.viaversion.viafabricplus.api.settings.type.ModeSetting;
+import com.viaversion.viafabricplus.save.SaveManager;
 import com.viaversion.viafabricplus.screen.VFPListEntry;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -47,6 +48,7 @@ public final class ModeSettingRenderer extends VFPListEntry {
     public void mappedMouseClicked(double mouseX, double mouseY, int button) {
         final int currentIndex = Arrays.stream(this.value.getOptions()).toList().indexOf(this.value.getValue()) + 1;
         this.value.setValue(currentIndex > this.value.getOptions().length - 1 ? 0 : currentIndex);
+        SaveManager.INSTANCE.getSettingsSave().markDirty();
     }
 
     @Override
@@ -22,6 +22,7 @@
 package com.viaversion.viafabricplus.screen.impl.settings;
 
 import com.viaversion.viafabricplus.api.settings.type.VersionedBooleanSetting;
+import com.viaversion.viafabricplus.save.SaveManager;
 import com.viaversion.viafabricplus.screen.VFPListEntry;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -47,6 +48,7 @@ public final class VersionedBooleanSettingRenderer extends VFPListEntry {
     public void mappedMouseClicked(double mouseX, double mouseY, int button) {
         this.value.setValue(this.value.getValue() + 1);
         if (this.value.getValue() % 3 == 0) this.value.setValue(0);
+        SaveManager.INSTANCE.getSettingsSave().markDirty();
     }
 
     @Override
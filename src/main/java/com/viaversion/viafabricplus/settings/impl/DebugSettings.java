@@ -24,9 +24,11 @@ package com.viaversion.viafabricplus.settings.impl;
 import com.viaversion.viafabricplus.api.settings.SettingGroup;
 import com.viaversion.viafabricplus.api.settings.type.BooleanSetting;
 import com.viaversion.viafabricplus.api.settings.type.VersionedBooleanSetting;
+import com.viaversion.viafabricplus.features.VersionFeatures;
 import com.viaversion.viafabricplus.features.font.replace_blank_glyph.FontCacheReload;
 import com.viaversion.vialoader.util.VersionRange;
 import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
+import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.raphimc.vialegacy.api.LegacyProtocolVersion;
 
@@ -41,32 +43,45 @@ public final class DebugSettings extends SettingGroup {
     public final BooleanSetting filterNonExistingGlyphs = new BooleanSetting(this, Text.translatable("debug_settings.viafabricplus.filter_non_existing_glyphs"), true) {
         @Override
         public void onValueChanged() {
+            VersionFeatures.recompile();
             FontCacheReload.reload();
         }
     };
 
     // 1.20.5 -> 1.20.4
-    public final VersionedBooleanSetting dontCreatePacketErrorCrashReports = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.dont_create_packet_error_crash_reports"), VersionRange.andOlder(ProtocolVersion.v1_20_3));
+    public final VersionedBooleanSetting dontCreatePacketErrorCrashReports = versioned(Text.translatable("debug_settings.viafabricplus.dont_create_packet_error_crash_reports"), VersionRange.andOlder(ProtocolVersion.v1_20_3));
 
     // 1.19 -> 1.18.2
-    public final VersionedBooleanSetting disableSequencing = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.disable_sequencing"), VersionRange.andOlder(ProtocolVersion.v1_18_2));
+    public final VersionedBooleanSetting disableSequencing = versioned(Text.translatable("debug_settings.viafabricplus.disable_sequencing"), VersionRange.andOlder(ProtocolVersion.v1_18_2));
 
     // 1.17 -> 1.16.5
-    public final VersionedBooleanSetting alwaysTickClientPlayer = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.always_tick_client_player"), VersionRange.andOlder(ProtocolVersion.v1_8).add(VersionRange.andNewer(ProtocolVersion.v1_17)));
+    public final VersionedBooleanSetting alwaysTickClientPlayer = versioned(Text.translatable("debug_settings.viafabricplus.always_tick_client_player"), VersionRange.andOlder(ProtocolVersion.v1_8).add(VersionRange.andNewer(ProtocolVersion.v1_17)));
 
     // 1.13 -> 1.12.2
-    public final VersionedBooleanSetting executeInputsSynchronously = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.execute_inputs_synchronously"), VersionRange.andOlder(ProtocolVersion.v1_12_2));
-    public final VersionedBooleanSetting legacyTabCompletions = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.legacy_tab_completions"), VersionRange.andOlder(ProtocolVersion.v1_12_2));
+    public final VersionedBooleanSetting executeInputsSynchronously = versioned(Text.translatable("debug_settings.viafabricplus.execute_inputs_synchronously"), VersionRange.andOlder(ProtocolVersion.v1_12_2));
+    public final VersionedBooleanSetting legacyTabCompletions = versioned(Text.translatable("debug_settings.viafabricplus.legacy_tab_completions"), VersionRange.andOlder(ProtocolVersion.v1_12_2));
 
     // 1.9 -> 1.8.x
-    public final VersionedBooleanSetting emulateArmorHud = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.emulate_armor_hud"), VersionRange.andOlder(ProtocolVersion.v1_8));
-    public final VersionedBooleanSetting hideModernCommandBlockScreenFeatures = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.hide_modern_command_block_screen_features"), VersionRange.andOlder(ProtocolVersion.v1_8));
+    public final VersionedBooleanSetting emulateArmorHud = versioned(Text.translatable("debug_settings.viafabricplus.emulate_armor_hud"), VersionRange.andOlder(ProtocolVersion.v1_8));
+    public final VersionedBooleanSetting hideModernCommandBlockScreenFeatures = versioned(Text.translatable("debug_settings.viafabricplus.hide_modern_command_block_screen_features"), VersionRange.andOlder(ProtocolVersion.v1_8));
 
     // b1.8/b1.8.1 -> b1_7/b1.7.3
-    public final VersionedBooleanSetting disableServerPinging = new VersionedBooleanSetting(this, Text.translatable("debug_settings.viafabricplus.disable_server_pinging"), VersionRange.andOlder(LegacyProtocolVersion.b1_7tob1_7_3));
+    public final VersionedBooleanSetting disableServerPinging = versioned(Text.translatable("debug_settings.viafabricplus.disable_server_pinging"), VersionRange.andOlder(LegacyProtocolVersion.b1_7tob1_7_3));
 
     public DebugSettings() {
         super(Text.translatable("setting_group_name.viafabricplus.debug"));
     }
 
+    /**
+     * Creates a versioned setting which updates the {@link VersionFeatures} when changed
+     */
+    private VersionedBooleanSetting versioned(final MutableText name, final VersionRange protocolRange) {
+        return new VersionedBooleanSetting(this, name, protocolRange) {
+            @Override
+            public void onValueChanged() {
+                VersionFeatures.recompile();
+            }
+        };
+    }
+
 }
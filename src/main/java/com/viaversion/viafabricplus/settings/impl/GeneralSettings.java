@@ -24,6 +24,7 @@ package com.viaversion.viafabricplus.settings.impl;
 import com.viaversion.viafabricplus.api.settings.SettingGroup;
 import com.viaversion.viafabricplus.api.settings.type.BooleanSetting;
 import com.viaversion.viafabricplus.api.settings.type.ModeSetting;
+import com.viaversion.viafabricplus.features.networking.nbt_limit.NbtReadLimit;
 import net.minecraft.client.gui.widget.ButtonWidget;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
@@ -60,10 +61,21 @@ public final class GeneralSettings extends SettingGroup {
     public final BooleanSetting loadSkinsAndSkullsInLegacyVersions = new BooleanSetting(this, Text.translatable("general_settings.viafabricplus.load_skins_and_skulls_in_legacy_versions"), true);
     public final BooleanSetting emulateInventoryActionsInAlphaVersions = new BooleanSetting(this, Text.translatable("general_settings.viafabricplus.emulate_inventory_actions_in_alpha_versions"), true);
     public final BooleanSetting saveScrollPositionInSlotScreens = new BooleanSetting(this, Text.translatable("general_settings.viafabricplus.save_scroll_position_in_slot_screens"), true);
+    public final ModeSetting nbtReadLimit = new ModeSetting(this, Text.translatable("general_settings.viafabricplus.nbt_read_limit"),
+            Text.translatable("base.viafabricplus.off"),
+            Text.translatable("base.viafabricplus.vanilla"),
+            Text.translatable("base.viafabricplus.strict")
+    ) {
+        @Override
+        public void onValueChanged() {
+            NbtReadLimit.setMode(getIndex());
+        }
+    };
 
     public GeneralSettings() {
         super(Text.translatable("setting_group_name.viafabricplus.general"));
         emulateInventoryActionsInAlphaVersions.setTooltip(Text.translatable("base.viafabricplus.this_will_require_a_restart"));
+        nbtReadLimit.setTooltip(Text.translatable("general_settings.viafabricplus.nbt_read_limit.tooltip"));
     }
 
     public static ButtonWidget.Builder withOrientation(final ButtonWidget.Builder builder, final int orientationIndex, final int width, final int height) {
@@ -46,7 +46,7 @@ public class ViaFabricPlusVisuals implements ViaFabricPlusLoadEntrypoint {
 
         platform.registerOnChangeProtocolVersionCallback((oldVersion, newVersion) -> MinecraftClient.getInstance().execute(() -> {
             if (newVersion.olderThanOrEqualTo(LegacyProtocolVersion.c0_28toc0_30)) {
-                GridItemSelectionScreen.INSTANCE.itemGrid = null;
+                GridItemSelectionScreen.INSTANCE.invalidate();
             }
         }));
     }
@@ -22,6 +22,8 @@
 package com.viaversion.viafabricplus.visuals.features.classic.creative_menu;
 
 import com.viaversion.viafabricplus.ViaFabricPlus;
+import com.viaversion.viaversion.api.connection.UserConnection;
+import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.widget.ClickableWidget;
@@ -32,6 +34,8 @@ import net.minecraft.registry.Registries;
 import net.minecraft.resource.featuretoggle.FeatureFlags;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.MathHelper;
+import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.data.ClassicProtocolExtension;
+import net.raphimc.vialegacy.protocol.classic.c0_30cpetoc0_28_30.storage.ExtensionProtocolMetadataStorage;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,48 +50,71 @@ public final class GridItemSelectionScreen extends Screen {
     private static final int SIDE_OFFSET = 15;
     private static final int ITEM_XY_BOX_DIMENSION_MODERN = 16;
 
-    public Item[][] itemGrid = null;
+    /**
+     * Default stacks of all items available in the connection in row-major order, only used for rendering
+     */
+    private ItemStack[] itemGrid = null;
+    private int rows;
+
+    /**
+     * The state the grid was built for, the available items only depend on the target version and CPE custom blocks
+     */
+    private ProtocolVersion gridVersion;
+    private boolean gridCustomBlocks;
+
     public ItemStack selectedItem = null;
 
     public GridItemSelectionScreen() {
         super(Text.of("Classic item selection"));
     }
 
+    /**
+     * Forces the grid to be rebuilt the next time the screen is opened
+     */
+    public void invalidate() {
+        itemGrid = null;
+    }
+
     @Override
     protected void init() {
-        if (itemGrid != null) {
+        final ProtocolVersion version = ViaFabricPlus.getImpl().getTargetVersion();
+        final boolean customBlocks = hasCustomBlocks();
+        if (itemGrid != null && version == gridVersion && customBlocks == gridCustomBlocks) {
             return;
         }
-        final List<Item> allowedItems = new ArrayList<>();
+        final List<ItemStack> allowedItems = new ArrayList<>();
         // Calculate all visible items
         for (Item item : Registries.ITEM) {
             if (item == Items.AIR || !item.getRequiredFeatures().contains(FeatureFlags.VANILLA)) {
                 continue;
             }
             if (ViaFabricPlus.getImpl().itemExistsInConnection(item)) {
-                allowedItems.add(item);
+                allowedItems.add(item.getDefaultStack());
             }
         }
 
-        itemGrid = new Item[MathHelper.ceil(allowedItems.size() / (double) MAX_ROW_DIVIDER)][MAX_ROW_DIVIDER];
-        int x = 0;
-        int y = 0;
-        for (Item allowedItem : allowedItems) {
-            itemGrid[y][x] = allowedItem;
-            x++;
-            if (x == MAX_ROW_DIVIDER) {
-                x = 0;
-                y++;
-            }
+        itemGrid = allowedItems.toArray(new ItemStack[0]);
+        rows = MathHelper.ceil(itemGrid.length / (double) MAX_ROW_DIVIDER);
+        gridVersion = version;
+        gridCustomBlocks = customBlocks;
+    }
+
+    private static boolean hasCustomBlocks() {
+        final UserConnection connection = ViaFabricPlus.getImpl().getPlayNetworkUserConnection();
+        if (connection == null) {
+            return false;
         }
+        final ExtensionProtocolMetadataStorage extensionProtocol = connection.get(ExtensionProtocolMetadataStorage.class);
+        return extensionProtocol != null && extensionProtocol.hasServerExtension(ClassicProtocolExtension.CUSTOM_BLOCKS, 1);
     }
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
         if (selectedItem != null) {
-            this.client.interactionManager.clickCreativeStack(selectedItem, client.player.getInventory().selectedSlot + 36); // Beta Inventory Tracker
+            final ItemStack stack = selectedItem.copy();
+            this.client.interactionManager.clickCreativeStack(stack, client.player.getInventory().selectedSlot + 36); // Beta Inventory Tracker
 
-            this.client.player.getInventory().main.set(client.player.getInventory().selectedSlot, selectedItem);
+            this.client.player.getInventory().main.set(client.player.getInventory().selectedSlot, stack);
             this.client.player.playerScreenHandler.sendContentUpdates();
 
             ClickableWidget.playClickSound(this.client.getSoundManager());
@@ -111,7 +138,7 @@ public final class GridItemSelectionScreen extends Screen {
         final int halfHeight = this.height / 2;
 
         final int boxWidth = ITEM_XY_BOX_DIMENSION_CLASSIC * MAX_ROW_DIVIDER + SIDE_OFFSET * 2;
-        final int boxHeight = ITEM_XY_BOX_DIMENSION_CLASSIC * itemGrid.length + SIDE_OFFSET * 2 + SIDE_OFFSET;
+        final int boxHeight = ITEM_XY_BOX_DIMENSION_CLASSIC * rows + SIDE_OFFSET * 2 + SIDE_OFFSET;
 
         final int renderX = halfWidth - boxWidth / 2;
         final int renderY = halfHeight - boxHeight / 2;
@@ -120,20 +147,32 @@ public final class GridItemSelectionScreen extends Screen {
         context.drawCenteredTextWithShadow(textRenderer, "Select block", renderX + boxWidth / 2, renderY + SIDE_OFFSET, -1);
         selectedItem = null;
 
-        int y = SIDE_OFFSET + SIDE_OFFSET;
-        for (Item[] items : itemGrid) {
-            int x = SIDE_OFFSET;
-            for (Item item : items) {
-                if (item == null) continue;
-
-                if (mouseX > renderX + x && mouseY > renderY + y && mouseX < renderX + x + ITEM_XY_BOX_DIMENSION_CLASSIC && mouseY < renderY + y + ITEM_XY_BOX_DIMENSION_CLASSIC) {
-                    context.fill(renderX + x, renderY + y, renderX + x + ITEM_XY_BOX_DIMENSION_CLASSIC, renderY + y + ITEM_XY_BOX_DIMENSION_CLASSIC, Integer.MAX_VALUE);
-                    selectedItem = item.getDefaultStack();
-                }
-                context.drawItem(item.getDefaultStack(), renderX + x + ITEM_XY_BOX_DIMENSION_MODERN / 4, renderY + y + ITEM_XY_BOX_DIMENSION_MODERN / 4);
-                x += ITEM_XY_BOX_DIMENSION_CLASSIC;
+        final int gridX = renderX + SIDE_OFFSET;
+        final int gridY = renderY + SIDE_OFFSET + SIDE_OFFSET;
+
+        // Find the hovered cell, the borders between cells don't belong to any of them
+        final int localX = mouseX - gridX;
+        final int localY = mouseY - gridY;
+        if (localX > 0 && localY > 0 && localX % ITEM_XY_BOX_DIMENSION_CLASSIC != 0 && localY % ITEM_XY_BOX_DIMENSION_CLASSIC != 0) {
+            final int column = localX / ITEM_XY_BOX_DIMENSION_CLASSIC;
+            final int index = (localY / ITEM_XY_BOX_DIMENSION_CLASSIC) * MAX_ROW_DIVIDER + column;
+            if (column < MAX_ROW_DIVIDER && index < itemGrid.length) {
+                final int x = gridX + column * ITEM_XY_BOX_DIMENSION_CLASSIC;
+                final int y = gridY + (index / MAX_ROW_DIVIDER) * ITEM_XY_BOX_DIMENSION_CLASSIC;
+                context.fill(x, y, x + ITEM_XY_BOX_DIMENSION_CLASSIC, y + ITEM_XY_BOX_DIMENSION_CLASSIC, Integer.MAX_VALUE);
+                selectedItem = itemGrid[index];
+            }
+        }
+
+        // Only draw the rows which are inside the screen
+        final int firstRow = Math.max(0, -gridY / ITEM_XY_BOX_DIMENSION_CLASSIC);
+        final int lastRow = Math.min(rows, MathHelper.ceilDiv(this.height - gridY, ITEM_XY_BOX_DIMENSION_CLASSIC));
+        for (int row = firstRow; row < lastRow; row++) {
+            final int y = gridY + row * ITEM_XY_BOX_DIMENSION_CLASSIC + ITEM_XY_BOX_DIMENSION_MODERN / 4;
+            final int end = Math.min(itemGrid.length, (row + 1) * MAX_ROW_DIVIDER);
+            for (int index = row * MAX_ROW_DIVIDER; index < end; index++) {
+                context.drawItem(itemGrid[index], gridX + (index % MAX_ROW_DIVIDER) * ITEM_XY_BOX_DIMENSION_CLASSIC + ITEM_XY_BOX_DIMENSION_MODERN / 4, y);
             }
-            y += ITEM_XY_BOX_DIMENSION_CLASSIC;
         }
     }
 
@@ -28,4 +28,18 @@ public final class LegacyTabList {
      */
     public static int globalTablistIndex = 0;
 
+    /**
+     * Incremented whenever the listed player list entries or the amount of tablist slots change, the player list hud only
+     * rebuilds the legacy tablist when this differs from the revision it was built for
+     */
+    private static int revision = 0;
+
+    public static void markDirty() {
+        revision++;
+    }
+
+    public static int getRevision() {
+        return revision;
+    }
+
 }
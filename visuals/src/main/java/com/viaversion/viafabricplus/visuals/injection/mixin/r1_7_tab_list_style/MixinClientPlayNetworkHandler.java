@@ -37,7 +37,13 @@ public abstract class MixinClientPlayNetworkHandler {
     @Inject(method = "onGameJoin", at = @At("RETURN"))
     private void initPlayerListFix(GameJoinS2CPacket packet, CallbackInfo ci) {
         LegacyTabList.globalTablistIndex = 0;
+        LegacyTabList.markDirty();
         ((IPlayerListHud) MinecraftClient.getInstance().inGameHud.getPlayerListHud()).viaFabricPlusVisuals$setMaxPlayers(packet.maxPlayers());
     }
 
+    @Inject(method = {"onPlayerList", "onPlayerRemove"}, at = @At("RETURN"))
+    private void invalidateLegacyTabList(CallbackInfo ci) {
+        LegacyTabList.markDirty();
+    }
+
 }
@@ -22,6 +22,7 @@
 package com.viaversion.viafabricplus.visuals.injection.mixin.r1_7_tab_list_style;
 
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import com.viaversion.viafabricplus.visuals.features.r1_7_tab_list_style.LegacyTabList;
 import com.viaversion.viafabricplus.visuals.injection.access.r1_7_tab_list_tyle.IPlayerListEntry;
 import com.viaversion.viafabricplus.visuals.injection.access.r1_7_tab_list_tyle.IPlayerListHud;
 import com.viaversion.viafabricplus.visuals.settings.VisualSettings;
@@ -57,15 +58,27 @@ public abstract class MixinPlayerListHud implements IPlayerListHud {
     @Unique
     private boolean viaFabricPlusVisuals$hideSkins = true;
 
+    @Unique
+    private List<PlayerListEntry> viaFabricPlusVisuals$entries;
+
+    @Unique
+    private int viaFabricPlusVisuals$entriesRevision;
+
     @Inject(method = "collectPlayerEntries", at = @At("HEAD"), cancellable = true)
     private void collectPlayerEntries(CallbackInfoReturnable<List<PlayerListEntry>> result) {
         if (VisualSettings.INSTANCE.enableLegacyTablist.isEnabled()) {
-            result.setReturnValue(this.client.player.networkHandler.getListedPlayerListEntries().stream()
-                    .sorted(viaFabricPlusVisuals$FIFO_COMPARATOR)
-                    .limit(viaFabricPlusVisuals$maxSlots)
-                    .collect(Collectors.collectingAndThen(Collectors.toList(), this::viaFabricPlusVisuals$transpose)));
+            // Only rebuild the list if entries were added/removed since it was built, hide skins is computed alongside it
+            if (viaFabricPlusVisuals$entries == null || viaFabricPlusVisuals$entriesRevision != LegacyTabList.getRevision()) {
+                viaFabricPlusVisuals$entries = this.client.player.networkHandler.getListedPlayerListEntries().stream()
+                        .sorted(viaFabricPlusVisuals$FIFO_COMPARATOR)
+                        .limit(viaFabricPlusVisuals$maxSlots)
+                        .collect(Collectors.collectingAndThen(Collectors.toList(), this::viaFabricPlusVisuals$transpose));
+                viaFabricPlusVisuals$entriesRevision = LegacyTabList.getRevision();
+            }
+            result.setReturnValue(viaFabricPlusVisuals$entries);
         } else {
             viaFabricPlusVisuals$hideSkins = false;
+            viaFabricPlusVisuals$entries = null;
         }
     }
 
@@ -99,6 +112,7 @@ public abstract class MixinPlayerListHud implements IPlayerListHud {
 
     @Override
     public void viaFabricPlusVisuals$setMaxPlayers(int maxPlayers) {
+        this.viaFabricPlusVisuals$entries = null;
         this.viaFabricPlusVisuals$maxSlots = Math.min(200, Math.max(20, ((maxPlayers + PlayerListHud.MAX_ROWS - 1) / PlayerListHud.MAX_ROWS) * PlayerListHud.MAX_ROWS));
     }
 